@@ -0,0 +1,93 @@
+package com.hyebin.todo;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 벤치마크용 스프링 컨텍스트 (기본은 인메모리 H2, MySQL 모드)
+// -jvmArgsAppend "-Dspring.datasource.url=..." 처럼 시스템 프로퍼티로 지정한 값이 우선
+public final class BenchmarkContext {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("spring.datasource.url", "jdbc:h2:mem:todo_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        DEFAULTS.put("spring.datasource.username", "sa");
+        DEFAULTS.put("spring.datasource.password", "");
+        DEFAULTS.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        // R2DBC 풀은 처음 조회할 때 연결하므로 벤치마크에서는 주소만 채워 둠 (r2dbc-h2 는 테스트 클래스패스에만 있음)
+        DEFAULTS.put("todo.reactive.url", "r2dbc:mysql://localhost:3306/todo_bench");
+        DEFAULTS.put("todo.reactive.username", "sa");
+        DEFAULTS.put("todo.reactive.password", "");
+        DEFAULTS.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        DEFAULTS.put("spring.jpa.show-sql", "false");
+        DEFAULTS.put("logging.level.root", "warn");
+        DEFAULTS.put("logging.level.org.hibernate.SQL", "warn");
+        DEFAULTS.put("logging.level.org.hibernate.type", "warn");
+    }
+
+    private BenchmarkContext() {}
+
+    public static ConfigurableApplicationContext start() {
+        return start(WebApplicationType.NONE, Map.of());
+    }
+
+    // properties 는 벤치마크별 설정 (@Param 값 등), 시스템 프로퍼티로 지정한 값이 여전히 우선
+    // SERVLET 이면 임의 포트로 내장 서버를 띄움 (localPort 로 확인)
+    public static ConfigurableApplicationContext start(WebApplicationType type, Map<String, String> properties) {
+        Map<String, String> merged = new LinkedHashMap<>(DEFAULTS);
+        merged.putAll(properties);
+        if (type == WebApplicationType.SERVLET) merged.putIfAbsent("server.port", "0");
+        List<String> args = new ArrayList<>();
+        merged.forEach((key, value) -> args.add("--" + key + "=" + System.getProperty(key, value)));
+        SpringApplication application = new SpringApplication(TodoApplication.class);
+        application.setWebApplicationType(type);
+        return application.run(args.toArray(String[]::new));
+    }
+
+    public static int localPort(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    // 태그 tags 개, 할 일 todos 개를 상태/우선순위/마감일을 섞어 저장
+    public static List<Tag> seed(ConfigurableApplicationContext context, int tags, int todos) {
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        TagRepository tagRepository = context.getBean(TagRepository.class);
+        todoRepository.deleteAllInBatch();
+        tagRepository.deleteAllInBatch();
+
+        List<Tag> savedTags = new ArrayList<>();
+        for (int i = 0; i < tags; i++) {
+            savedTags.add(tagRepository.save(new Tag("태그" + i)));
+        }
+
+        LocalDateTime base = LocalDateTime.now();
+        Priority[] priorities = Priority.values();
+        List<Todo> chunk = new ArrayList<>();
+        for (int i = 0; i < todos; i++) {
+            Todo todo = new Todo("할 일 " + i, "벤치마크용 내용 " + i, base.plusHours(i % 500), savedTags.get(i % tags));
+            todo.setStatus(i % 3 == 0 ? Status.DONE : Status.TODO);
+            todo.setPriority(priorities[i % priorities.length]);
+            chunk.add(todo);
+            if (chunk.size() == 1000) {
+                todoRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        todoRepository.saveAll(chunk);
+        return savedTags;
+    }
+}
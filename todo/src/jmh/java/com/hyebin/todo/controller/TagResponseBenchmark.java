@@ -0,0 +1,63 @@
+package com.hyebin.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyebin.todo.BenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// TagController 의 Map.of(success, data, message) 응답 감싸기 + 직렬화
+// dataOnly 와 getAllTags 의 차이가 감싸기 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagResponseBenchmark {
+
+    @Param({"20", "200"})
+    int tags;
+
+    private ConfigurableApplicationContext context;
+    private TagController tagController;
+    private ObjectMapper objectMapper;
+    private Object tagList;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, tags, tags * 10);
+        tagController = context.getBean(TagController.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        tagList = ((Map<?, ?>) tagController.getAllTags().getBody()).get("data");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 태그 목록만 직렬화 (감싸기 없음)
+    @Benchmark
+    public byte[] dataOnly() throws Exception {
+        return objectMapper.writeValueAsBytes(tagList);
+    }
+
+    // 캐시된 태그 목록 → DTO → Map.of 응답 → 직렬화
+    @Benchmark
+    public byte[] getAllTags() throws Exception {
+        ResponseEntity<?> response = tagController.getAllTags();
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    // 집계 쿼리 + 태그별 Map.of 통계 → 직렬화
+    @Benchmark
+    public byte[] getAllTagStats() throws Exception {
+        ResponseEntity<?> response = tagController.getAllTagStats();
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+}
@@ -0,0 +1,63 @@
+package com.hyebin.todo.controller;
+
+import com.hyebin.todo.BenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/todos 부하: 플랫폼 스레드 vs 가상 스레드 (JMH 스레드 하나 = 동시 클라이언트 하나)
+// 가상 스레드는 Java 21 이상에서만 켜지므로 -PjavaVersion=21 로 실행해야 비교가 됨 (Java 17 에서는 둘 다 플랫폼 스레드)
+// 두 모드 모두 커넥션 풀 크기(poolSize)가 DB 동시 실행 한도, 동시 클라이언트 수는 -PjmhArgs="ThreadModel -t 100" 처럼 조정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    @Param({"false", "true"})
+    boolean virtualThreads;
+
+    @Param({"10"})
+    int poolSize;
+
+    @Param({"1000"})
+    int todos;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(WebApplicationType.SERVLET, Map.of(
+                "spring.threads.virtual.enabled", String.valueOf(virtualThreads),
+                "spring.datasource.hikari.maximum-pool-size", String.valueOf(poolSize)));
+        BenchmarkContext.seed(context, 1, todos);
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + BenchmarkContext.localPort(context) + "/api/todos?size=50")).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 200 이 아니면 실패로 끝나도록 예외
+    @Benchmark
+    public int listTodos() throws Exception {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) throw new IllegalStateException("GET /api/todos → " + status);
+        return status;
+    }
+}
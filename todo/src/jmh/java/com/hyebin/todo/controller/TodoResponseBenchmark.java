@@ -0,0 +1,76 @@
+package com.hyebin.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 할 일 목록 응답: 엔티티 → TodoResponseDto 변환 + Jackson 직렬화 (DB 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoResponseBenchmark {
+
+    @Param({"50", "1000", "10000"})
+    int size;
+
+    private TodoController controller;
+    private ObjectMapper objectMapper;
+    private List<Todo> todos;
+    private List<TodoResponseDto> dtos;
+
+    @Setup
+    public void setUp() {
+        // toDto 는 다른 빈을 쓰지 않음
+        controller = new TodoController(null, null, null, null, null, null, null, null, null, null, null);
+        // 스프링 부트 기본 설정과 같은 ObjectMapper (날짜는 ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Tag tag = new Tag("공부");
+        tag.setId(1L);
+        tag.setColor("#6c757d");
+        LocalDateTime now = LocalDateTime.now();
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Todo todo = new Todo("할 일 " + i, "내용 ".repeat(20) + i, now.plusDays(i % 30), tag);
+            todo.setId((long) i);
+            todo.setStatus(i % 2 == 0 ? Status.TODO : Status.DONE);
+            todo.setPriority(Priority.values()[i % Priority.values().length]);
+            todo.setCreatedAt(now);
+            todo.setUpdatedAt(now);
+            todos.add(todo);
+        }
+        dtos = toDtos();
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> toDtos() {
+        return todos.stream().map(controller::toDto).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] toDtosAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(toDtos());
+    }
+}
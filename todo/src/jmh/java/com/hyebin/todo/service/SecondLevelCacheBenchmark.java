@@ -0,0 +1,84 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.BenchmarkContext;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import com.hyebin.todo.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 2차 캐시 on/off 읽기 지연 비교 (요청 하나 = 트랜잭션 하나)
+// - findById: 상세 조회 + 태그 이름 접근, 캐시를 켜면 SQL 없이 응답
+// - listByStatus: 상태별 목록 첫 페이지, 쿼리 캐시를 쓰지 않으므로 양쪽 모두 DB 조회 (비교 기준)
+// 기본은 인메모리 H2 라 네트워크 왕복이 없으므로, 실제 차이는 -jvmArgsAppend "-Dspring.datasource.url=..." 로 MySQL 을 지정해 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecondLevelCacheBenchmark {
+
+    private static final int PAGE_SIZE = TodoService.DEFAULT_PAGE_SIZE;
+
+    @Param({"false", "true"})
+    boolean secondLevelCache;
+
+    @Param({"500"})
+    int todos;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoRepository todoRepository;
+    private TransactionTemplate transactionTemplate;
+    private Long[] ids;
+    private int next;
+    private TodoSearchCondition pending;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(WebApplicationType.NONE, Map.of(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache", String.valueOf(secondLevelCache)));
+        BenchmarkContext.seed(context, 1, todos);
+        todoService = context.getBean(TodoService.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        ids = todoRepository.findAll().stream().map(Todo::getId).toArray(Long[]::new);
+        pending = new TodoSearchCondition();
+        pending.setStatus(Status.TODO);
+
+        // 캐시를 켰는데 적중하지 않으면 비교가 무의미하므로 시작 전에 확인
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < ids.length * 2; i++) findById();
+        if (secondLevelCache && statistics.getSecondLevelCacheHitCount() == 0) {
+            throw new IllegalStateException("2차 캐시가 적용되지 않았습니다.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String findById() {
+        Long id = ids[next++ % ids.length];
+        return transactionTemplate.execute(status -> todoService.getTodoById(id).getTag().getName());
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> listByStatus() {
+        return todoService.listTodos(pending, TodoSort.DUE_DATE, null, PAGE_SIZE, false).getContent();
+    }
+}
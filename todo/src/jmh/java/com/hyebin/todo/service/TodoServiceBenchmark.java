@@ -0,0 +1,89 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.BenchmarkContext;
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// TodoService 목록/필터 조회 경로 (GET /api/todos 가 호출하는 listTodos, DTO 프로젝션 조회)
+// - content 포함/제외, 첫 페이지/깊은 페이지, 상태+태그 필터, 제목 검색
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoServiceBenchmark {
+
+    private static final int PAGE_SIZE = TodoService.DEFAULT_PAGE_SIZE;
+
+    @Param({"10000"})
+    int todos;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoSearchCondition all;
+    private TodoSearchCondition statusAndTag;
+    private TodoSearchCondition keyword;
+    private String deepCursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        todoService = context.getBean(TodoService.class);
+        List<Tag> tags = BenchmarkContext.seed(context, 20, todos);
+
+        all = new TodoSearchCondition();
+        statusAndTag = new TodoSearchCondition();
+        statusAndTag.setStatus(Status.DONE);
+        statusAndTag.setTagId(tags.get(0).getId());
+        keyword = new TodoSearchCondition();
+        keyword.setKeyword("할 일 77");
+
+        // 전체의 중간쯤 페이지 커서
+        String cursor = null;
+        for (int i = 0; i < todos / PAGE_SIZE / 2; i++) {
+            Window<TodoResponseDto> window = todoService.listTodos(all, TodoSort.DUE_DATE, cursor, PAGE_SIZE, false);
+            cursor = TodoCursor.next(TodoSort.DUE_DATE, window);
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> firstPage() {
+        return todoService.listTodos(all, TodoSort.ID, null, PAGE_SIZE, true).getContent();
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> firstPageWithoutContent() {
+        return todoService.listTodos(all, TodoSort.ID, null, PAGE_SIZE, false).getContent();
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> deepPageByDueDate() {
+        return todoService.listTodos(all, TodoSort.DUE_DATE, deepCursor, PAGE_SIZE, true).getContent();
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> statusAndTagByDueDate() {
+        return todoService.listTodos(statusAndTag, TodoSort.DUE_DATE, null, PAGE_SIZE, true).getContent();
+    }
+
+    // H2 는 FULLTEXT 인덱스 없이 LOCATE 로 대신하므로 MySQL 수치와 다름
+    @Benchmark
+    public List<TodoResponseDto> keywordSearch() {
+        return todoService.listTodos(keyword, TodoSort.CREATED, null, PAGE_SIZE, true).getContent();
+    }
+}
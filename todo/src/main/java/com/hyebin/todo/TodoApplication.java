@@ -2,10 +2,14 @@ package com.hyebin.todo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC 는 읽기 전용 조회에만 쓰므로 자동 설정 대신 ReactiveReadConfig 로 구성 (JDBC DataSource 유지)
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableJpaAuditing
+@EnableScheduling
 public class TodoApplication {
 
 	public static void main(String[] args) {
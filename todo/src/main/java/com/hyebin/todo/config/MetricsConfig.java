@@ -0,0 +1,53 @@
+package com.hyebin.todo.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 메트릭 (/actuator/prometheus)
+// - 엔드포인트: http.server.requests (스프링 부트 기본, uri 템플릿별)
+// - 서비스: @Timed 가 붙은 클래스의 메서드별 todo.service 타이머
+// - 리포지토리: spring.data.repository.invocations (스프링 부트 기본, 메서드별)
+// - Hibernate 통계(hibernate.*), Hikari 풀(hikaricp.*), 태그 캐시(cache.*), 변경 스트림 구독자 수
+// - 요청당 SQL 문 수와 N+1 감지는 SqlBudgetInterceptor
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+    private final MeterRegistry meterRegistry;
+    private final int sqlStatementBudget;
+
+    public MetricsConfig(MeterRegistry meterRegistry,
+                         @Value("${todo.metrics.sql-statement-budget:10}") int sqlStatementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementBudget = sqlStatementBudget;
+    }
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return sqlStatementCounter;
+    }
+
+    // Hibernate 가 SQL 을 준비할 때마다 요청 스레드의 카운터를 올림
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlBudgetInterceptor(sqlStatementCounter, meterRegistry, sqlStatementBudget))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,44 @@
+package com.hyebin.todo.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// 읽기 전용 논블로킹 조회(/api/reactive/**)용 R2DBC 연결
+// - 쓰기는 기존 JPA(JDBC) 경로 그대로, 같은 DB 를 R2DBC 로 따로 읽음
+// - 커넥션 풀을 빈으로 등록하면 스프링 부트가 JDBC DataSource 자동 설정을 건너뛰므로
+//   풀은 이 클래스 안에서만 만들고 DatabaseClient 만 빈으로 노출 (R2dbcAutoConfiguration 은 TodoApplication 에서 제외)
+@Configuration
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final ConnectionPool pool;
+
+    public ReactiveReadConfig(@Value("${todo.reactive.url}") String url,
+                              @Value("${todo.reactive.username:}") String username,
+                              @Value("${todo.reactive.password:}") String password,
+                              @Value("${todo.reactive.max-pool-size:10}") int maxPoolSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) options.option(ConnectionFactoryOptions.USER, username);
+        if (!password.isEmpty()) options.option(ConnectionFactoryOptions.PASSWORD, password);
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .initialSize(0)
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
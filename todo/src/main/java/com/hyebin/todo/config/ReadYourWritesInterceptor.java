@@ -0,0 +1,68 @@
+package com.hyebin.todo.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+// 쓰기 후 읽기 일관성 (read-your-writes)
+// - 쓰기 요청(GET/HEAD/OPTIONS 외)은 응답에 "이 시각까지 primary" 쿠키를 실어 보냄
+// - 쿠키의 시각이 지나지 않은 요청은 읽기도 primary 로 보내 복제 지연 동안 방금 쓴 값이 사라져 보이지 않도록 함
+// - 시각을 쿠키에 담으므로 다른 인스턴스로 가는 다음 요청에도 적용됨
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String COOKIE = "todo-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration stickyWindow;
+
+    public ReadYourWritesInterceptor(ReplicaRoutingDataSource routingDataSource, Duration stickyWindow) {
+        this.routingDataSource = routingDataSource;
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(now + stickyWindow.toMillis()));
+            cookie.setPath("/api");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds() + 1));
+            response.addCookie(cookie);
+        }
+        routingDataSource.begin(write || pinnedUntil(request) > now);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        routingDataSource.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        routingDataSource.end();
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return 0;
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hyebin.todo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// 읽기 복제본 (todo.datasource.replica.jdbc-url 을 지정했을 때만)
+// - primary: spring.datasource.* / spring.datasource.hikari.* (복제본이 없을 때와 같은 설정)
+// - replica: todo.datasource.replica.* (HikariCP 설정 이름 그대로, 예: jdbc-url, maximum-pool-size)
+// - @Transactional(readOnly = true) 조회(TodoService 목록/검색/내보내기, 태그 통계)는 복제본,
+//   쓰기와 쓰기 직후 sticky-window 동안의 읽기는 primary
+// - 모든 요청이 같이 쓰는 TagCache 스냅샷과 증분 동기화(TodoSyncService)는 쿠키와 관계없이 primary 에서 읽음
+// - Flyway, 스키마 검증, 트랜잭션 밖의 쿼리도 primary
+@Configuration
+@ConditionalOnProperty("todo.datasource.replica.jdbc-url")
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+
+    private final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+    private final Duration stickyWindow;
+
+    public ReplicaDataSourceConfig(@Value("${todo.datasource.sticky-window:5s}") Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("todo.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    // JPA, Flyway, JdbcTemplate 이 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(routingDataSource, stickyWindow))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,57 @@
+package com.hyebin.todo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션은 복제본, 나머지(쓰기 트랜잭션, 트랜잭션 밖의 쿼리)는 primary 로 보내는 DataSource
+// - 트랜잭션 매니저는 readOnly 를 표시하기 전에 커넥션을 잡으므로 LazyConnectionDataSourceProxy 로 감싸
+//   첫 SQL 을 실행할 때 고르도록 함
+// - 요청 스레드가 primary 에 고정(pinned)되어 있으면 읽기도 primary (쓰기 직후의 읽기, ReadYourWritesInterceptor)
+// - readFromPrimary 안의 읽기 전용 트랜잭션은 쿠키와 관계없이 primary (복제 지연이 있으면 안 되는 읽기, 증분 동기화)
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    // null: 요청 밖(스케줄러, 시작 시점), FALSE: 요청 중, TRUE: 요청 중이고 primary 고정
+    private final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+
+    // 서비스에서 쓰므로 빈이 아닌 정적 값 (복제본이 없으면 아무 영향 없음)
+    private static final ThreadLocal<Boolean> primaryRead = new ThreadLocal<>();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            boolean primary = Boolean.TRUE.equals(pinned.get()) || Boolean.TRUE.equals(primaryRead.get());
+            return primary ? Target.PRIMARY : Target.REPLICA;
+        }
+        // 쓰기 트랜잭션 뒤에 같은 요청에서 읽는 값은 복제 지연과 관계없이 방금 쓴 값이어야 함
+        if (TransactionSynchronizationManager.isActualTransactionActive() && pinned.get() != null) {
+            pinned.set(true);
+        }
+        return Target.PRIMARY;
+    }
+
+    // 요청 시작 (pin 이 true 면 이 요청의 읽기는 모두 primary)
+    public void begin(boolean pin) {
+        pinned.set(pin);
+    }
+
+    public void end() {
+        pinned.remove();
+    }
+
+    // 읽기 전용 트랜잭션 안에서 첫 SQL 전에 호출 (커넥션은 첫 SQL 에서 고르므로)
+    // 쓰기 트랜잭션으로 primary 에 보내는 것과 달리 TodoWriteWatermark 에 진행 중인 쓰기로 잡히지 않음
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        Boolean previous = primaryRead.get();
+        primaryRead.set(true);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) primaryRead.remove();
+            else primaryRead.set(previous);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hyebin.todo.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 느린 쿼리 로그 샘플링 (logback-spring.xml 에서 등록)
+// 1분 구간마다 org.hibernate.SQL_SLOW 로그를 maxPerMinute 개까지만 남기고 나머지는 버림
+// DB 가 전체적으로 느려져 모든 쿼리가 느린 쿼리가 되어도 로그가 폭주하지 않도록
+public class SlowQueryLogSampler extends TurboFilter {
+
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+
+    private int maxPerMinute = 60;
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger logged = new AtomicInteger();
+
+    public void setMaxPerMinute(int maxPerMinute) {
+        this.maxPerMinute = maxPerMinute;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (maxPerMinute <= 0 || !SLOW_QUERY_LOGGER.equals(logger.getName())) return FilterReply.NEUTRAL;
+        // isInfoEnabled() 같은 레벨 확인 호출(format 없음)은 세지 않음
+        if (format == null) return FilterReply.NEUTRAL;
+
+        long current = System.currentTimeMillis() / 60_000;
+        long previous = window.get();
+        if (current != previous && window.compareAndSet(previous, current)) {
+            logged.set(0);
+        }
+        return logged.incrementAndGet() <= maxPerMinute ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
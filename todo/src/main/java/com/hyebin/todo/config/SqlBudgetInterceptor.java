@@ -0,0 +1,81 @@
+package com.hyebin.todo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 요청당 SQL 문 수 측정 + N+1 감지 + 요청 요약 로그
+// - todo.sql.statements (method, uri 태그) 분포로 기록
+// - 요청이 끝나면 "메서드 URI -> 상태 (시간, SQL 수)" 한 줄만 남김 (문장별 SQL 로그 대신)
+// - 한도(todo.metrics.sql-statement-budget)를 넘으면 todo.sql.budget.exceeded 를 올리고 같은 줄을 경고로
+// - 스트리밍/SSE 처럼 비동기로 넘어간 요청은 처음 요청 스레드와 마지막 디스패치에서 실행된 문장을 합쳐 셈
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+
+    private static final String STARTED_AT = SqlBudgetInterceptor.class.getName() + ".startedAt";
+    private static final String STATEMENTS = SqlBudgetInterceptor.class.getName() + ".statements";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+    private final int budget;
+
+    public SqlBudgetInterceptor(SqlStatementCounter counter, MeterRegistry registry, int budget) {
+        this.counter = counter;
+        this.registry = registry;
+        this.budget = budget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(STARTED_AT) == null) request.setAttribute(STARTED_AT, System.nanoTime());
+        counter.start();
+        return true;
+    }
+
+    // 비동기 처리로 넘어감: 지금까지 센 문장 수만 보관하고 기록은 마지막 디스패치에서
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STATEMENTS, statementsSoFar(request) + counter.stop());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request, response, statementsSoFar(request) + counter.stop());
+    }
+
+    private static int statementsSoFar(HttpServletRequest request) {
+        Object count = request.getAttribute(STATEMENTS);
+        return count == null ? 0 : (Integer) count;
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        long millis = (System.nanoTime() - (Long) request.getAttribute(STARTED_AT)) / 1_000_000;
+        DistributionSummary.builder("todo.sql.statements")
+                .description("요청당 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(statements);
+        if (statements > budget) {
+            Counter.builder("todo.sql.budget.exceeded")
+                    .description("SQL 문 수 한도를 넘은 요청 수 (N+1 의심)")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            log.warn("{} {} -> {} ({} ms, SQL {}회, 한도 {} 초과 - N+1 의심)",
+                    request.getMethod(), uri, response.getStatus(), millis, statements, budget);
+        } else {
+            log.info("{} {} -> {} ({} ms, SQL {}회)", request.getMethod(), uri, response.getStatus(), millis, statements);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.hyebin.todo.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 요청 스레드에서 Hibernate 가 준비한 SQL 문 수
+// start() ~ stop() 사이에만 세므로 스케줄러/비동기 스레드의 쿼리는 포함하지 않음
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    public void start() {
+        current.set(new int[1]);
+    }
+
+    // 센 문장 수 (start() 없이 부르면 0)
+    public int stop() {
+        int[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = current.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hyebin.todo.controller;
+
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TagResponseDto;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import com.hyebin.todo.repository.ReactiveTodoReader;
+import com.hyebin.todo.service.TodoSort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// 논블로킹 읽기 전용 API (대시보드처럼 동시 조회가 많은 클라이언트용)
+// - R2DBC 로 조회하고 Flux 를 그대로 반환하므로 DB 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+// - Accept: application/x-ndjson 이면 한 줄에 하나씩 흘려보내고 (클라이언트가 읽는 속도에 맞춰 한 행씩 요청),
+//   application/json 이면 배열 하나로 응답
+// - 응답 모양은 /api/todos, /api/tags 와 같은 TodoResponseDto / TagResponseDto
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveTodoController {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 10000;
+
+    private final ReactiveTodoReader reactiveTodoReader;
+
+    public ReactiveTodoController(ReactiveTodoReader reactiveTodoReader) {
+        this.reactiveTodoReader = reactiveTodoReader;
+    }
+
+    // 할 일 목록 (필터 + 정렬, 최대 limit 행)
+    @GetMapping(value = "/todos", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<TodoResponseDto> getTodos(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit
+    ) {
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setTagId(tagId);
+        condition.setDueFrom(dueFrom);
+        condition.setDueTo(dueTo);
+        try {
+            if (status != null && !status.trim().isEmpty()) {
+                condition.setStatus(Status.valueOf(status.toUpperCase()));
+            }
+            if (priority != null && !priority.trim().isEmpty()) {
+                condition.setPriority(Priority.valueOf(priority.toUpperCase()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 잘못된 상태/우선순위 값
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+        int rows = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return reactiveTodoReader.findTodos(condition, TodoSort.from(sort).toSort(), rows);
+    }
+
+    // 태그 목록
+    @GetMapping(value = "/tags", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<TagResponseDto> getTags() {
+        return reactiveTodoReader.findTags();
+    }
+
+    // 할 일 통계 (/api/todos/stats 와 같은 모양, DB 집계 기준)
+    @GetMapping("/todos/stats")
+    public Mono<TodoController.StatsDto> getTodoStats() {
+        return reactiveTodoReader.stats().map(stats -> {
+            TodoController.StatsDto dto = new TodoController.StatsDto(
+                    stats.total(), stats.count(Status.DONE), stats.count(Status.TODO));
+            dto.byPriority = stats.byPriority();
+            dto.byTag = stats.byTag();
+            return dto;
+        });
+    }
+}
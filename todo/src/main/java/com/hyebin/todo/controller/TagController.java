@@ -1,11 +1,18 @@
 package com.hyebin.todo.controller;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.enums.Status;
 import com.hyebin.todo.dto.TagRequestDto;
 import com.hyebin.todo.dto.TagResponseDto;
 import com.hyebin.todo.repository.TagRepository;
 import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.service.TagCache;
+import com.hyebin.todo.service.TodoChangeBus;
+import com.hyebin.todo.service.TodoChangeEvent;
 import jakarta.validation.Valid;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,16 +27,21 @@ public class TagController {
 
     private final TagRepository tagRepository;
     private final TodoRepository todoRepository;
+    private final TagCache tagCache;
+    private final TodoChangeBus todoChangeBus;
 
-    public TagController(TagRepository tagRepository, TodoRepository todoRepository) {
+    public TagController(TagRepository tagRepository, TodoRepository todoRepository, TagCache tagCache,
+                         TodoChangeBus todoChangeBus) {
         this.tagRepository = tagRepository;
         this.todoRepository = todoRepository;
+        this.tagCache = tagCache;
+        this.todoChangeBus = todoChangeBus;
     }
 
-    // 태그 전체 조회
+    // 태그 전체 조회 (캐시)
     @GetMapping
     public ResponseEntity<?> getAllTags() {
-        List<TagResponseDto> list = tagRepository.findAll()
+        List<TagResponseDto> list = tagCache.findAll()
                 .stream().map(this::toDto).collect(Collectors.toList());
         return ResponseEntity.ok(
                 Map.of(
@@ -43,8 +55,8 @@ public class TagController {
     // 태그 등록
     @PostMapping
     public ResponseEntity<?> createTag(@Valid @RequestBody TagRequestDto dto) {
-        // 중복 태그명 검사
-        if (tagRepository.existsByName(dto.getName())) {
+        // 중복 태그명 검사 (캐시)
+        if (tagCache.existsByName(dto.getName())) {
             return ResponseEntity.badRequest().body(
                     Map.of(
                             "success", false,
@@ -59,6 +71,8 @@ public class TagController {
         tag.setColor(dto.getColor() != null ? dto.getColor() : "#6c757d");
 
         Tag saved = tagRepository.save(tag);
+        tagCache.invalidate();
+        todoChangeBus.publish(TodoChangeEvent.tag(TodoChangeEvent.Type.TAG_CREATED, saved.getId()));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(
                 Map.of(
@@ -69,11 +83,11 @@ public class TagController {
         );
     }
 
-    // 태그 단일 조회
+    // 태그 단일 조회 (캐시, ETag = 태그 버전)
     @GetMapping("/{id}")
     public ResponseEntity<?> getTagById(@PathVariable Long id) {
-        return tagRepository.findById(id)
-                .map(tag -> ResponseEntity.ok(
+        return tagCache.findById(id)
+                .map(tag -> ResponseEntity.ok().eTag(String.valueOf(tag.getVersion())).body(
                         Map.of(
                                 "success", true,
                                 "data", toDto(tag),
@@ -90,13 +104,21 @@ public class TagController {
     }
 
     // 태그 수정 (새로 추가)
+    // If-Match 가 있으면 그 버전일 때만 수정, 다르거나 동시에 먼저 수정되면 412 (If-Match 없으면 409)
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateTag(@PathVariable Long id, @Valid @RequestBody TagRequestDto dto) {
+    public ResponseEntity<?> updateTag(@PathVariable Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @Valid @RequestBody TagRequestDto dto) {
         return tagRepository.findById(id)
                 .map(existingTag -> {
+                    Long expected = TodoController.expectedVersion(ifMatch);
+                    if (expected != null && !expected.equals(existingTag.getVersion())) {
+                        return versionConflict(HttpStatus.PRECONDITION_FAILED);
+                    }
+
                     // 다른 태그와 이름 중복 검사 (자기 자신 제외)
                     if (!existingTag.getName().equals(dto.getName()) &&
-                            tagRepository.existsByName(dto.getName())) {
+                            tagCache.existsByName(dto.getName())) {
                         return ResponseEntity.badRequest().body(
                                 Map.of(
                                         "success", false,
@@ -110,9 +132,16 @@ public class TagController {
                     existingTag.setName(dto.getName());
                     existingTag.setColor(dto.getColor() != null ? dto.getColor() : existingTag.getColor());
 
-                    Tag updated = tagRepository.save(existingTag);
+                    Tag updated;
+                    try {
+                        updated = tagRepository.save(existingTag);
+                    } catch (OptimisticLockingFailureException e) {
+                        return versionConflict(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
+                    }
+                    tagCache.invalidate();
+                    todoChangeBus.publish(TodoChangeEvent.tag(TodoChangeEvent.Type.TAG_UPDATED, updated.getId()));
 
-                    return ResponseEntity.ok(
+                    return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(
                             Map.of(
                                     "success", true,
                                     "data", toDto(updated),
@@ -132,7 +161,7 @@ public class TagController {
     // 태그 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTag(@PathVariable Long id) {
-        if (!tagRepository.existsById(id)) {
+        if (tagCache.findById(id).isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     Map.of(
                             "success", false,
@@ -142,20 +171,20 @@ public class TagController {
             );
         }
 
-        // 해당 태그를 사용하는 Todo가 있는지 확인
-        long todoCount = todoRepository.findByTag_Id(id).size();
-        if (todoCount > 0) {
+        // 해당 태그를 사용하는 Todo가 있는지 확인 (개수 대신 존재 여부만)
+        if (todoRepository.existsByTag_Id(id)) {
             return ResponseEntity.badRequest().body(
                     Map.of(
                             "success", false,
-                            "message", String.format("이 태그를 사용하는 할일이 %d개 있어 삭제할 수 없습니다.", todoCount),
-                            "errorCode", "TAG_IN_USE",
-                            "todoCount", todoCount
+                            "message", "이 태그를 사용하는 할일이 있어 삭제할 수 없습니다.",
+                            "errorCode", "TAG_IN_USE"
                     )
             );
         }
 
         tagRepository.deleteById(id);
+        tagCache.invalidate();
+        todoChangeBus.publish(TodoChangeEvent.tag(TodoChangeEvent.Type.TAG_DELETED, id));
 
         return ResponseEntity.ok(
                 Map.of(
@@ -178,7 +207,7 @@ public class TagController {
             );
         }
 
-        List<Tag> tags = tagRepository.findByNameContainingIgnoreCase(name.trim());
+        List<Tag> tags = tagCache.findByNameContainingIgnoreCase(name.trim());
         List<TagResponseDto> tagDtos = tags.stream().map(this::toDto).collect(Collectors.toList());
 
         return ResponseEntity.ok(
@@ -190,31 +219,50 @@ public class TagController {
         );
     }
 
+    // 태그 캐시 적중/미스 통계
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats() {
+        CacheStats stats = tagCache.stats();
+        return ResponseEntity.ok(
+                Map.of(
+                        "success", true,
+                        "data", Map.of(
+                                "hitCount", stats.hitCount(),
+                                "missCount", stats.missCount(),
+                                "hitRate", stats.hitRate(),
+                                "loadCount", stats.loadCount(),
+                                "evictionCount", stats.evictionCount()
+                        ),
+                        "message", "태그 캐시 통계 조회 성공"
+                )
+        );
+    }
+
+    // 전체 태그 사용 통계 조회 (한 번의 집계 쿼리)
+    @GetMapping("/stats")
+    public ResponseEntity<?> getAllTagStats() {
+        List<Map<String, Object>> list = tagRepository.countTodosGroupByTag(Status.DONE)
+                .stream().map(this::toStatsMap).collect(Collectors.toList());
+        return ResponseEntity.ok(
+                Map.of(
+                        "success", true,
+                        "data", list,
+                        "message", "태그 통계 조회 성공"
+                )
+        );
+    }
+
     // 태그 사용 통계 조회 (새로 추가)
     @GetMapping("/{id}/stats")
     public ResponseEntity<?> getTagStats(@PathVariable Long id) {
-        return tagRepository.findById(id)
-                .map(tag -> {
-                    long totalTodos = todoRepository.findByTag_Id(id).size();
-                    long completedTodos = todoRepository.countByTag_IdAndStatus(id,
-                            com.hyebin.todo.domain.enums.Status.DONE);
-                    long pendingTodos = totalTodos - completedTodos;
-
-                    return ResponseEntity.ok(
-                            Map.of(
-                                    "success", true,
-                                    "data", Map.of(
-                                            "tag", toDto(tag),
-                                            "totalTodos", totalTodos,
-                                            "completedTodos", completedTodos,
-                                            "pendingTodos", pendingTodos,
-                                            "completionRate", totalTodos > 0 ?
-                                                    Math.round((double) completedTodos / totalTodos * 100) : 0
-                                    ),
-                                    "message", "태그 통계 조회 성공"
-                            )
-                    );
-                })
+        return tagRepository.countTodosByTagId(id, Status.DONE)
+                .map(count -> ResponseEntity.ok(
+                        Map.of(
+                                "success", true,
+                                "data", toStatsMap(count),
+                                "message", "태그 통계 조회 성공"
+                        )
+                ))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                         Map.of(
                                 "success", false,
@@ -224,6 +272,34 @@ public class TagController {
                 ));
     }
 
+    private ResponseEntity<?> versionConflict(HttpStatus status) {
+        return ResponseEntity.status(status).body(
+                Map.of(
+                        "success", false,
+                        "message", "다른 요청이 먼저 태그를 수정했습니다.",
+                        "errorCode", "VERSION_CONFLICT"
+                )
+        );
+    }
+
+    private Map<String, Object> toStatsMap(TagRepository.TodoCount count) {
+        TagResponseDto tag = new TagResponseDto();
+        tag.setId(count.getId());
+        tag.setName(count.getName());
+        tag.setColor(count.getColor());
+
+        long totalTodos = count.getTotal();
+        long completedTodos = count.getCompleted();
+        return Map.of(
+                "tag", tag,
+                "totalTodos", totalTodos,
+                "completedTodos", completedTodos,
+                "pendingTodos", totalTodos - completedTodos,
+                "completionRate", totalTodos > 0 ?
+                        Math.round((double) completedTodos / totalTodos * 100) : 0
+        );
+    }
+
     // ===== 엔티티 -> DTO 변환 =====
     private TagResponseDto toDto(Tag tag) {
         TagResponseDto dto = new TagResponseDto();
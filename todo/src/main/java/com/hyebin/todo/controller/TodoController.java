@@ -4,39 +4,109 @@ import com.hyebin.todo.domain.entity.Tag;
 import com.hyebin.todo.domain.entity.Todo;
 import com.hyebin.todo.domain.enums.Priority;
 import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoBatchRequestDto;
+import com.hyebin.todo.dto.TodoBatchResponseDto;
+import com.hyebin.todo.dto.TodoImportResponseDto;
 import com.hyebin.todo.dto.TodoRequestDto;
 import com.hyebin.todo.dto.TodoResponseDto;
-import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import com.hyebin.todo.dto.TodoSearchHitDto;
+import com.hyebin.todo.dto.TodoSearchResponseDto;
+import com.hyebin.todo.dto.TodoSyncResponseDto;
+import com.hyebin.todo.service.TagCache;
+import com.hyebin.todo.service.TodoChangeBus;
+import com.hyebin.todo.service.TodoChangeEvent;
+import com.hyebin.todo.service.TodoCursor;
+import com.hyebin.todo.service.TodoImportService;
+import com.hyebin.todo.service.TodoReminderService;
+import com.hyebin.todo.service.TodoSearchService;
 import com.hyebin.todo.service.TodoService;
+import com.hyebin.todo.service.TodoSort;
+import com.hyebin.todo.service.TodoStatsService;
+import com.hyebin.todo.service.TodoSyncService;
+import com.hyebin.todo.service.TodoWriteQueue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/todos")
 public class TodoController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // 변경 스트림 연결 유지 시간 (끊기면 EventSource 가 다시 연결)
+    private static final long CHANGES_TIMEOUT_MS = 30 * 60 * 1000L;
+
     private final TodoService todoService;
-    private final TagRepository tagRepository;
+    private final TodoStatsService todoStatsService;
+    private final TagCache tagCache;
+    private final TodoSearchService todoSearchService;
+    private final TodoImportService todoImportService;
+    private final TodoChangeBus todoChangeBus;
+    private final TodoSyncService todoSyncService;
+    private final TodoWriteQueue todoWriteQueue;
+    private final TodoReminderService todoReminderService;
+    private final ObjectMapper objectMapper;
+    private final Duration exportTimeout;
 
-    public TodoController(TodoService todoService, TagRepository tagRepository) {
+    public TodoController(TodoService todoService, TodoStatsService todoStatsService, TagCache tagCache,
+                          TodoSearchService todoSearchService, TodoImportService todoImportService,
+                          TodoChangeBus todoChangeBus, TodoSyncService todoSyncService, TodoWriteQueue todoWriteQueue,
+                          TodoReminderService todoReminderService, ObjectMapper objectMapper,
+                          @Value("${todo.export.timeout:30m}") Duration exportTimeout) {
         this.todoService = todoService;
-        this.tagRepository = tagRepository;
+        this.todoStatsService = todoStatsService;
+        this.tagCache = tagCache;
+        this.todoSearchService = todoSearchService;
+        this.todoImportService = todoImportService;
+        this.todoChangeBus = todoChangeBus;
+        this.todoSyncService = todoSyncService;
+        this.todoWriteQueue = todoWriteQueue;
+        this.todoReminderService = todoReminderService;
+        this.objectMapper = objectMapper;
+        this.exportTimeout = exportTimeout;
     }
 
     // 1. 할 일 등록
     @PostMapping
     public ResponseEntity<TodoResponseDto> createTodo(@Valid @RequestBody TodoRequestDto dto) {
-        Tag tag = tagRepository.findById(dto.getTagId()).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 태그"));
+        Tag tag = tagCache.findById(dto.getTagId()).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 태그"));
         Todo todo = new Todo(
                 dto.getTitle(),
                 dto.getContent(),
@@ -51,79 +121,76 @@ public class TodoController {
         return ResponseEntity.ok(toDto(saved));
     }
 
-    // 2. 모든 할 일 조회
+    // 2. 모든 할 일 조회 (조건 조합 + 커서 페이지)
+    // 모든 필터는 AND 로 조합되고 sort 는 어떤 필터와도 함께 적용됨
+    // 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 내려줌
+    // ETag 는 읽은 DB 의 데이터 버전 + write-behind 대기 변경 기준이라, If-None-Match 가 같으면 목록 조회 없이 304
+    // 엔티티를 거치지 않고 DTO 프로젝션으로 조회, includeContent=false 면 content 를 빼고 조회
+    // write-behind 큐에 대기 중인 상태/우선순위는 응답에 덮어씀 (필터는 DB 값 기준)
     @GetMapping
     public ResponseEntity<List<TodoResponseDto>> getAllTodos(
+            WebRequest request,
             @RequestParam(required = false) String status,      // 상태 필터
             @RequestParam(required = false) String priority,    // 우선순위 필터
             @RequestParam(required = false) String search,      // 검색 키워드
             @RequestParam(required = false) String sort,         // 정렬 방식
-            @RequestParam(required = false) Long tagId
+            @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(required = false) String cursor,      // 이전 응답의 X-Next-Cursor
+            @RequestParam(defaultValue = "" + TodoService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "true") boolean includeContent
     ) {
-        List<Todo> todos;
-
-        // 검색
-        if (search != null && !search.trim().isEmpty()) {
-            todos = todoService.searchTodosByTitle(search);
-        }
+        TodoSort order = TodoSort.from(sort);
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setTagId(tagId);
+        condition.setDueFrom(dueFrom);
+        condition.setDueTo(dueTo);
+        condition.setKeyword(search);
 
-        // 태그별 필터링
-        else if (tagId != null) {
-            todos = todoService.getTodosByTag(tagId);
-        }
-
-        // 상태별 필터링
-        else if (status != null && !status.trim().isEmpty()) {
-            Status st;
-            try {
-                st = Status.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                return ResponseEntity.badRequest().build();
+        Window<TodoResponseDto> todos;
+        try {
+            if (status != null && !status.trim().isEmpty()) {
+                condition.setStatus(Status.valueOf(status.toUpperCase()));
             }
-            todos = todoService.getTodosByStatus(st);
-        }
-
-        // 우선순위별 필터
-        else if (priority != null && !priority.trim().isEmpty()) {
-            Priority pr;
-            try {
-                pr = Priority.valueOf(priority.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                return ResponseEntity.badRequest().build();
+            if (priority != null && !priority.trim().isEmpty()) {
+                condition.setPriority(Priority.valueOf(priority.toUpperCase()));
             }
-            todos = todoService.getTodosByPriority(pr);
-        }
-
-        // 정렬 기능
-        else if ("dueDate".equalsIgnoreCase(sort)) {
-            todos = todoService.getTodosByDueDate();
-        } else if ("created".equalsIgnoreCase(sort)) {
-            todos = todoService.getTodosByCreatedDate();
-        }
-
-        // 기본 조회
-        else {
-            todos = todoService.getAllTodos();
+            // 조회 전에 버전을 읽어야 응답보다 새 ETag 가 붙지 않음
+            // 버전은 목록과 같은 DB(복제본일 수 있음)에서 읽으므로 뒤처진 복제본의 목록에 primary 의 버전이 붙지 않음
+            String etag = "todos-" + todoService.listVersion() + "." + todoWriteQueue.version();
+            if (request.checkNotModified(etag)) return null;
+            todos = todoService.listTodos(condition, order, cursor, size, includeContent);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 상태/우선순위 값 또는 커서
+            return ResponseEntity.badRequest().build();
         }
 
-        List<TodoResponseDto> response = todos.stream().map(this::toDto).collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        List<TodoResponseDto> response = todos.getContent();
+        if (todoWriteQueue.size() > 0) response.forEach(todoWriteQueue::overlay);
+        String next = TodoCursor.next(order, todos);
+        if (next == null) return ResponseEntity.ok(response);
+        return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, next).body(response);
     }
 
-    // 3. 특정 할 일 상세 조회
+    // 3. 특정 할 일 상세 조회 (ETag = 할 일 버전.태그 버전, If-None-Match 가 같으면 본문 없이 304)
+    // write-behind 큐에 대기 중인 변경이 있으면 덮어쓰고 ETag 에 큐 순번을 붙임
     @GetMapping("/{id}")
     public ResponseEntity<TodoResponseDto> getTodoById(@PathVariable Long id) {
         Todo todo = todoService.getTodoById(id);
         if (todo == null) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok(toDto(todo));
+        TodoWriteQueue.Pending queued = todoWriteQueue.get(id);
+        String etag = queued != null ? etag(todo) + "-" + queued.seq() : etag(todo);
+        return ResponseEntity.ok().eTag(etag).body(todoWriteQueue.overlay(toDto(todo)));
     }
 
-    // 4. 할 일 수정
+    // 4. 할 일 수정 (If-Match 가 있으면 그 버전일 때만, 다르면 412)
     @PutMapping("/{id}")
     public ResponseEntity<TodoResponseDto> updateTodo(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TodoRequestDto dto) {
-        Tag tag = tagRepository.findById(dto.getTagId())
+        Tag tag = tagCache.findById(dto.getTagId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 태그"));
 
         Todo updateEntity = new Todo(
@@ -133,39 +200,48 @@ public class TodoController {
                 tag
         );
 
-        Todo updated = todoService.updateTodo(id, updateEntity);
+        Todo updated = todoService.updateTodo(id, updateEntity, expectedVersion(ifMatch));
         if (updated == null) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok(toDto(updated));
+        return ResponseEntity.ok().eTag(etag(updated)).body(toDto(updated));
     }
 
-    // 5. 할 일 삭제
+    // 5. 할 일 삭제 (DELETE 한 번, 본문 없이 204)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTodo(@PathVariable Long id) {
         boolean deleted = todoService.deleteTodo(id);
         if (!deleted) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok().build();
+        return ResponseEntity.noContent().build();
     }
 
-    // 6. 할 일 완료 처리
+    // 6. 할 일 완료 처리 (상태 컬럼만 UPDATE 한 번, 본문 없이 204)
+    // If-Match 가 있으면 UPDATE 로 올라간 새 버전을 ETag 로 (다음 조건부 요청에 그대로 쓸 수 있도록)
+    // write-behind 가 켜져 있고 If-Match 가 없으면 할 일이 있는지만 확인하고 저널에 기록한 뒤 바로 202 (본문 없음, DB 는 주기적으로 일괄 반영)
     @PatchMapping("/{id}/complete")
-    public ResponseEntity<TodoResponseDto> completeTodo(@PathVariable Long id) {
-        Todo todo = todoService.completeTodo(id);
-        if (todo == null) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok(toDto(todo));
+    public ResponseEntity<Void> completeTodo(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch == null && todoWriteQueue.isEnabled()) {
+            return acceptQueued(id, queued -> todoWriteQueue.enqueueStatus(queued, Status.DONE));
+        }
+        return noContent(todoService.completeTodo(id, expectedVersion(ifMatch)), ifMatch);
     }
 
     // 7. 할 일 다시 시작 (완료 취소)
     @PatchMapping("/{id}/restart")
-    public ResponseEntity<TodoResponseDto> restartTodo(@PathVariable Long id) {
-        Todo todo = todoService.restartTodo(id);
-        if (todo == null) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok(toDto(todo));
+    public ResponseEntity<Void> restartTodo(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch == null && todoWriteQueue.isEnabled()) {
+            return acceptQueued(id, queued -> todoWriteQueue.enqueueStatus(queued, Status.TODO));
+        }
+        return noContent(todoService.restartTodo(id, expectedVersion(ifMatch)), ifMatch);
     }
 
-    // 8. 우선순위 변경
+    // 8. 우선순위 변경 (우선순위 컬럼만 UPDATE 한 번, 본문 없이 204)
     @PatchMapping("/{id}/priority")
-    public ResponseEntity<TodoResponseDto> changePriority(
+    public ResponseEntity<Void> changePriority(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestParam String priority) {
         Priority pr;
         try {
@@ -173,21 +249,256 @@ public class TodoController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
-        Todo todo = todoService.changePriority(id, pr);
-        if (todo == null) return ResponseEntity.notFound().build();
-        return ResponseEntity.ok(toDto(todo));
+        if (ifMatch == null && todoWriteQueue.isEnabled()) {
+            return acceptQueued(id, queued -> todoWriteQueue.enqueuePriority(queued, pr));
+        }
+        return noContent(todoService.changePriority(id, pr, expectedVersion(ifMatch)), ifMatch);
+    }
+
+    // 10. 일괄 처리 (생성/우선순위 변경/완료/다시 시작/삭제를 한 트랜잭션에서)
+    @PostMapping("/batch")
+    public ResponseEntity<?> applyBatch(@Valid @RequestBody TodoBatchRequestDto dto) {
+        TodoService.BatchResult result;
+        try {
+            result = todoService.applyBatch(dto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        TodoBatchResponseDto response = new TodoBatchResponseDto();
+        response.setCreated(result.created().stream().map(this::toDto).collect(Collectors.toList()));
+        response.setCompleted(result.completed());
+        response.setRestarted(result.restarted());
+        response.setPriorityChanged(result.priorityChanged());
+        response.setDeleted(result.deleted());
+        return ResponseEntity.ok(response);
+    }
+
+    // 11. 전문 검색 (제목/내용, 관련도 순 + 하이라이트)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + TodoSearchService.DEFAULT_PAGE_SIZE) int size) {
+        TodoSearchService.Result result;
+        try {
+            result = todoSearchService.search(q, page, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        TodoSearchResponseDto response = new TodoSearchResponseDto();
+        response.setHits(result.hits().stream().map(this::toHitDto).collect(Collectors.toList()));
+        response.setPage(result.page());
+        response.setSize(result.size());
+        response.setHasNext(result.hasNext());
+        return ResponseEntity.ok(response);
     }
 
-    // 9. 할 일 통계 조회
+    // 12. 전체 내보내기 (NDJSON 또는 CSV 스트리밍)
+    // DB 커서에서 읽은 행을 바로 응답에 쓰므로 전체 목록/JSON 본문을 메모리에 만들지 않음
+    // 스트리밍은 비동기 요청이라 기본 타임아웃(Tomcat 30초)이면 큰 내보내기가 중간에 잘리므로 todo.export.timeout 을 따로 적용
+    // 다운로드가 끝날 때까지 트랜잭션과 DB 커넥션 하나를 계속 잡고 있음 (느린 클라이언트도 마찬가지)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(NativeWebRequest webRequest,
+                                                             @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(exportTimeout.toMillis());
+        }
+        StreamingResponseBody body = out -> {
+            if (exportFormat == ExportFormat.CSV) writeCsv(out);
+            else writeNdjson(out);
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.extension + "\"")
+                .body(body);
+    }
+
+    // 13. 대량 가져오기 (NDJSON 또는 CSV 본문을 스트리밍으로 읽어 청크 단위 배치 INSERT)
+    // 태그는 tagName 으로 찾고 없으면 생성, 잘못된 행은 건너뛰고 errors 로 보고
+    @PostMapping("/import")
+    public ResponseEntity<?> importTodos(@RequestParam(defaultValue = "ndjson") String format,
+                                         InputStream body) throws IOException {
+        TodoImportService.Format importFormat;
+        try {
+            importFormat = TodoImportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", "지원하지 않는 형식입니다: " + format));
+        }
+
+        TodoImportService.Result result = todoImportService.importTodos(body, importFormat);
+        TodoImportResponseDto response = new TodoImportResponseDto();
+        response.setTotal(result.total());
+        response.setImported(result.imported());
+        response.setFailed(result.failed());
+        response.setCreatedTags(result.createdTags());
+        response.setElapsedMillis(result.elapsedMillis());
+        response.setErrors(result.errors().stream()
+                .map(error -> new TodoImportResponseDto.RowError(error.line(), error.message()))
+                .collect(Collectors.toList()));
+        return ResponseEntity.ok(response);
+    }
+
+    // 14. 변경 스트림 (SSE, 폴링 대신 사용)
+    // 커밋된 할 일/태그 변경을 이벤트 이름 = 변경 종류, data = TodoChangeEvent 로 보냄
+    // tagId/status 로 받을 이벤트를 거를 수 있고, RESYNC/BULK_CHANGED 를 받으면 목록을 다시 조회
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) String status) throws IOException {
+        Status statusFilter = null;
+        try {
+            if (status != null && !status.trim().isEmpty()) statusFilter = Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        SseEmitter emitter = new SseEmitter(CHANGES_TIMEOUT_MS);
+        TodoChangeBus.Subscription subscription;
+        try {
+            subscription = todoChangeBus.subscribe(tagId, statusFilter, new TodoChangeBus.Sink() {
+                @Override
+                public void send(long id, TodoChangeEvent event) throws IOException {
+                    emitter.send(SseEmitter.event().id(String.valueOf(id)).name(event.type().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+
+                @Override
+                public void heartbeat() throws IOException {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            });
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        // 헤더를 바로 내려 클라이언트가 연결됐음을 알 수 있도록
+        emitter.send(SseEmitter.event().comment("connected"));
+        return ResponseEntity.ok(emitter);
+    }
+
+    // 15. 증분 동기화 (since 토큰 이후 바뀐 할 일 + 삭제된 id, 다음 토큰)
+    // since 없이 부르면 전체, hasMore 면 받은 토큰으로 바로 다시 호출, reset 이면 로컬 데이터를 버리고 받은 목록으로 교체
+    @GetMapping("/sync")
+    public ResponseEntity<?> syncTodos(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + TodoSyncService.DEFAULT_PAGE_SIZE) int size) {
+        TodoSyncService.Result result;
+        try {
+            result = todoSyncService.sync(since, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        TodoSyncResponseDto response = new TodoSyncResponseDto();
+        response.setTodos(result.todos().stream().map(this::toDto).collect(Collectors.toList()));
+        response.setDeleted(result.deleted());
+        response.setToken(result.token());
+        response.setHasMore(result.hasMore());
+        response.setReset(result.reset());
+        return ResponseEntity.ok(response);
+    }
+
+    // 16. 마감 임박/지난 할 일 (마감일 순, 지난 마감은 overdue-lookback 까지, within 은 ISO-8601 또는 1h/30m 형식)
+    // 마감 알림 인덱스에서 응답하므로 DB 조회 없음 (인덱스가 아직 범위를 다 담지 못했으면 DB 에서)
+    @GetMapping("/due")
+    public ResponseEntity<?> getDueTodos(
+            @RequestParam(defaultValue = "1h") String within,
+            @RequestParam(defaultValue = "100") int size) {
+        List<TodoReminderService.Entry> entries;
+        try {
+            entries = todoReminderService.due(DurationStyle.detectAndParse(within),
+                    Math.max(1, Math.min(size, TodoService.MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        Map<Long, Tag> tags = tagCache.findAllById(entries.stream()
+                .map(TodoReminderService.Entry::tagId).filter(id -> id != null).collect(Collectors.toSet()));
+        List<TodoResponseDto> response = new ArrayList<>();
+        for (TodoReminderService.Entry entry : entries) {
+            Tag tag = tags.get(entry.tagId());
+            TodoResponseDto dto = new TodoResponseDto(entry.id(), entry.title(), null, entry.dueDate(), Status.TODO,
+                    entry.priority(), tag != null ? tag.getName() : null, tag != null ? tag.getColor() : null,
+                    null, null, null);
+            // write-behind 큐에서 완료 대기 중이면 뺌
+            if (todoWriteQueue.overlay(dto).getStatus() == Status.TODO) response.add(dto);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    // 9. 할 일 통계 조회 (메모리 스냅샷 기준, DB 조회 없음)
+    // ETag 는 스냅샷 버전 (바꿔 끼울 때마다 올라감) 이므로 바뀌지 않았으면 직렬화 없이 304
     @GetMapping("/stats")
     public ResponseEntity<?> getTodoStats() {
-        long total = todoService.getTotalCount();
-        long completed = todoService.getDoneCount();
-        long pending = todoService.getTodoCount();
-        return ResponseEntity.ok(new StatsDto(total, completed, pending));
+        TodoStatsService.Stats stats = todoStatsService.getStats();
+        StatsDto dto = new StatsDto(stats.total(), stats.count(Status.DONE), stats.count(Status.TODO));
+        dto.byPriority = stats.byPriority();
+        dto.byTag = stats.byTag();
+        return ResponseEntity.ok()
+                .eTag("stats-" + todoStatsService.versionTag(stats))
+                .body(dto);
+    }
+
+    // 버전 충돌 (If-Match 불일치 → 412, If-Match 없이 동시에 수정한 경우 → 409)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleVersionConflict(WebRequest request) {
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(Map.of("message", "다른 요청이 먼저 할 일을 수정했습니다."));
+    }
+
+    // 할 일 ETag: "할일버전.태그버전" (태그 이름/색도 응답에 들어가므로)
+    static String etag(Todo todo) {
+        return todo.getVersion() + "." + (todo.getTag() != null ? todo.getTag().getVersion() : 0);
     }
 
-    private TodoResponseDto toDto(Todo todo) {
+    // If-Match 에서 할 일 버전만 꺼냄 (태그 변경은 할 일 수정과 충돌하지 않음)
+    // 없거나 * 이면 null (조건 없음), 해석할 수 없으면 어떤 버전과도 맞지 않는 -1
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.split(",")[0].trim();
+        if (tag.startsWith("W/")) tag = tag.substring(2);
+        tag = tag.replace("\"", "");
+        int dot = tag.indexOf('.');
+        try {
+            return Long.parseLong(dot < 0 ? tag : tag.substring(0, dot));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    // 단건 변경 응답: 없으면 404, 있으면 204
+    // If-Match 로 버전을 확인했으면 바뀐 만큼 올린 버전을 ETag 로 (태그 버전은 요청에 온 값 그대로, 할 일 변경으로 바뀌지 않으므로)
+    private static ResponseEntity<Void> noContent(TodoService.Change change, String ifMatch) {
+        if (change == TodoService.Change.NOT_FOUND) return ResponseEntity.notFound().build();
+        Long expected = expectedVersion(ifMatch);
+        if (expected == null) return ResponseEntity.noContent().build();
+        long version = change == TodoService.Change.CHANGED ? expected + 1 : expected;
+        String tag = ifMatch.split(",")[0].replace("\"", "").trim();
+        int dot = tag.indexOf('.');
+        return ResponseEntity.noContent().eTag(version + (dot < 0 ? ".0" : tag.substring(dot))).build();
+    }
+
+    // write-behind 큐에 넣고 202 (없는 할 일은 404, 있는지는 2차 캐시에 있으면 SQL 없이 확인)
+    private ResponseEntity<Void> acceptQueued(Long id, Consumer<Long> enqueue) {
+        if (!todoService.existsTodo(id)) return ResponseEntity.notFound().build();
+        enqueue.accept(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    // 벤치마크(src/jmh)에서 직접 호출하므로 패키지 접근
+    TodoResponseDto toDto(Todo todo) {
         TodoResponseDto dto = new TodoResponseDto();
         dto.setId(todo.getId());
         dto.setTitle(todo.getTitle());
@@ -197,6 +508,7 @@ public class TodoController {
         dto.setPriority(todo.getPriority());
         dto.setCreatedAt(todo.getCreatedAt());
         dto.setUpdatedAt(todo.getUpdatedAt());
+        dto.setVersion(todo.getVersion());
         if (todo.getTag() != null) {
             dto.setTagName(todo.getTag().getName());
             dto.setTagColor(todo.getTag().getColor());
@@ -204,10 +516,82 @@ public class TodoController {
         return dto;
     }
 
+    // 한 줄에 할 일 하나 (마지막 줄도 개행으로 끝남)
+    private void writeNdjson(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            long count = todoService.exportTodos(todo -> {
+                try {
+                    writer.writeValue(generator, toDto(todo));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (count > 0) generator.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write("id,title,content,dueDate,status,priority,tagName,tagColor,createdAt,updatedAt\n");
+            todoService.exportTodos(todo -> {
+                TodoResponseDto dto = toDto(todo);
+                try {
+                    writer.write(csvRow(dto.getId(), dto.getTitle(), dto.getContent(), dto.getDueDate(),
+                            dto.getStatus(), dto.getPriority(), dto.getTagName(), dto.getTagColor(),
+                            dto.getCreatedAt(), dto.getUpdatedAt()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // 쉼표/따옴표/개행이 있는 값은 따옴표로 감싸고 따옴표는 두 번 (RFC 4180)
+    private static String csvRow(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(',');
+            if (values[i] == null) continue;
+            String value = values[i].toString();
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                sb.append(value);
+            }
+        }
+        return sb.append('\n').toString();
+    }
+
+    private enum ExportFormat {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        ExportFormat(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+    }
+
+    private TodoSearchHitDto toHitDto(TodoSearchService.Hit hit) {
+        TodoSearchHitDto dto = new TodoSearchHitDto();
+        dto.setTodo(toDto(hit.todo()));
+        dto.setScore(hit.score());
+        dto.setTitleHighlight(hit.titleHighlight());
+        dto.setContentSnippet(hit.contentSnippet());
+        return dto;
+    }
+
     public static class StatsDto {
         public long total;
         public long completed;
         public long pending;
+        public Map<Priority, Long> byPriority;
+        public Map<Long, Long> byTag;
         public StatsDto(long total, long completed, long pending) {
             this.total = total;
             this.completed = completed;
@@ -1,11 +1,15 @@
 package com.hyebin.todo.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "tag")
 public class Tag {
 
@@ -22,6 +26,10 @@ public class Tag {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    // 낙관적 잠금, ETag / If-Match 에도 사용
+    @Version
+    private Long version;
+
     public Tag() {}
 
     public Tag(String name) {
@@ -59,4 +67,8 @@ public class Tag {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
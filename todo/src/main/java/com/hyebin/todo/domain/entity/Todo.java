@@ -3,17 +3,27 @@ package com.hyebin.todo.domain.entity;
 import com.hyebin.todo.domain.enums.Priority;
 import com.hyebin.todo.domain.enums.Status;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable // 2차 캐시 대상 (hibernate.cache.use_second_level_cache=true 일 때만 사용)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate // 변경된 컬럼만 UPDATE (TEXT content 를 매번 다시 쓰지 않도록)
+// 인덱스는 Flyway 마이그레이션(db/migration)에서 관리
 @Table(name = "todo")
 public class Todo {
 
+    // IDENTITY 는 INSERT 배치를 막으므로 테이블 기반 pooled 생성기로 id 를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = "id_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "todo", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -41,6 +51,11 @@ public class Todo {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 (UPDATE ... WHERE version = ?), ETag / If-Match 에도 사용
+    // 벌크 JPQL UPDATE 는 자동으로 올라가지 않으므로 쿼리에서 직접 1 증가
+    @Version
+    private Long version;
+
     public Todo() {}
 
     public Todo(String title, String content, LocalDateTime dueDate, Tag tag) {
@@ -121,4 +136,8 @@ public class Todo {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,28 @@
+package com.hyebin.todo.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 삭제된 할 일 기록 (증분 동기화에서 삭제를 알려주기 위함)
+@Entity
+@Table(name = "todo_tombstone")
+public class TodoTombstone {
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TodoTombstone() {}
+
+    public Long getTodoId() {
+        return todoId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
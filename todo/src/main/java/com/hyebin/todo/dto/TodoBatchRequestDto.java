@@ -0,0 +1,81 @@
+package com.hyebin.todo.dto;
+
+import com.hyebin.todo.domain.enums.Priority;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 일괄 처리 요청 (한 트랜잭션에서 생성 → 우선순위 변경 → 완료 → 다시 시작 → 삭제 순으로 처리)
+// 항목을 빼거나 JSON null 로 보내면 빈 목록으로 봄, 목록 안의 null 은 400
+public class TodoBatchRequestDto {
+
+    @Valid
+    private List<@NotNull TodoRequestDto> create = new ArrayList<>();
+
+    private List<@NotNull Long> complete = new ArrayList<>();
+
+    private List<@NotNull Long> restart = new ArrayList<>();
+
+    // 우선순위 → 대상 id 목록
+    private Map<Priority, List<@NotNull Long>> priority = new EnumMap<>(Priority.class);
+
+    private List<@NotNull Long> delete = new ArrayList<>();
+
+    public List<TodoRequestDto> getCreate() {
+        return create;
+    }
+
+    public void setCreate(List<TodoRequestDto> create) {
+        this.create = create != null ? create : new ArrayList<>();
+    }
+
+    public List<Long> getComplete() {
+        return complete;
+    }
+
+    public void setComplete(List<Long> complete) {
+        this.complete = complete != null ? complete : new ArrayList<>();
+    }
+
+    public List<Long> getRestart() {
+        return restart;
+    }
+
+    public void setRestart(List<Long> restart) {
+        this.restart = restart != null ? restart : new ArrayList<>();
+    }
+
+    public Map<Priority, List<Long>> getPriority() {
+        return priority;
+    }
+
+    // 우선순위 키나 id 목록이 null 인 항목은 버림
+    public void setPriority(Map<Priority, List<Long>> priority) {
+        this.priority = new EnumMap<>(Priority.class);
+        if (priority == null) return;
+        priority.forEach((key, ids) -> {
+            if (key != null && ids != null) this.priority.put(key, ids);
+        });
+    }
+
+    public List<Long> getDelete() {
+        return delete;
+    }
+
+    public void setDelete(List<Long> delete) {
+        this.delete = delete != null ? delete : new ArrayList<>();
+    }
+
+    // 요청에 담긴 전체 작업 수
+    public int size() {
+        int size = create.size() + complete.size() + restart.size() + delete.size();
+        for (List<Long> ids : priority.values()) {
+            size += ids.size();
+        }
+        return size;
+    }
+}
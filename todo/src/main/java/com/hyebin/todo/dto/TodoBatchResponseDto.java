@@ -0,0 +1,52 @@
+package com.hyebin.todo.dto;
+
+import java.util.List;
+
+public class TodoBatchResponseDto {
+
+    private List<TodoResponseDto> created;
+    private int completed;
+    private int restarted;
+    private int priorityChanged;
+    private int deleted;
+
+    public List<TodoResponseDto> getCreated() {
+        return created;
+    }
+
+    public void setCreated(List<TodoResponseDto> created) {
+        this.created = created;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public int getRestarted() {
+        return restarted;
+    }
+
+    public void setRestarted(int restarted) {
+        this.restarted = restarted;
+    }
+
+    public int getPriorityChanged() {
+        return priorityChanged;
+    }
+
+    public void setPriorityChanged(int priorityChanged) {
+        this.priorityChanged = priorityChanged;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+}
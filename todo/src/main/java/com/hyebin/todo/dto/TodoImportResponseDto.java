@@ -0,0 +1,64 @@
+package com.hyebin.todo.dto;
+
+import java.util.List;
+
+public class TodoImportResponseDto {
+
+    private long total;
+    private long imported;
+    private long failed;
+    private int createdTags;
+    private long elapsedMillis;
+    private List<RowError> errors;
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public int getCreatedTags() {
+        return createdTags;
+    }
+
+    public void setCreatedTags(int createdTags) {
+        this.createdTags = createdTags;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    // 실패한 행 (line 은 요청 본문의 줄 번호)
+    public record RowError(long line, String message) {}
+}
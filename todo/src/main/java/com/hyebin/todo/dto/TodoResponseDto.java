@@ -17,6 +17,26 @@ public class TodoResponseDto {
     private String tagColor;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+
+    public TodoResponseDto() {}
+
+    // 목록 프로젝션 쿼리(TodoListRepository)에서 바로 생성
+    public TodoResponseDto(Long id, String title, String content, LocalDateTime dueDate, Status status,
+                           Priority priority, String tagName, String tagColor,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.priority = priority;
+        this.tagName = tagName;
+        this.tagColor = tagColor;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
 
     public Long getId() {
         return id;
@@ -97,4 +117,12 @@ public class TodoResponseDto {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
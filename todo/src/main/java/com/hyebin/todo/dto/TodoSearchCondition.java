@@ -0,0 +1,65 @@
+package com.hyebin.todo.dto;
+
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+
+import java.time.LocalDateTime;
+
+// 할 일 목록 검색 조건 (null 인 항목은 조건에서 제외)
+public class TodoSearchCondition {
+
+    private Status status;
+    private Priority priority;
+    private Long tagId;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+    private String keyword;
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public void setTagId(Long tagId) {
+        this.tagId = tagId;
+    }
+
+    public LocalDateTime getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDateTime dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDateTime getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDateTime dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+}
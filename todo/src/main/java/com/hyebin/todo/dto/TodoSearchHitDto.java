@@ -0,0 +1,41 @@
+package com.hyebin.todo.dto;
+
+public class TodoSearchHitDto {
+
+    private TodoResponseDto todo;
+    private double score;
+    private String titleHighlight;
+    private String contentSnippet;
+
+    public TodoResponseDto getTodo() {
+        return todo;
+    }
+
+    public void setTodo(TodoResponseDto todo) {
+        this.todo = todo;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public String getTitleHighlight() {
+        return titleHighlight;
+    }
+
+    public void setTitleHighlight(String titleHighlight) {
+        this.titleHighlight = titleHighlight;
+    }
+
+    public String getContentSnippet() {
+        return contentSnippet;
+    }
+
+    public void setContentSnippet(String contentSnippet) {
+        this.contentSnippet = contentSnippet;
+    }
+}
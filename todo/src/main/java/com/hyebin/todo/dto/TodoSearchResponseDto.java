@@ -0,0 +1,43 @@
+package com.hyebin.todo.dto;
+
+import java.util.List;
+
+public class TodoSearchResponseDto {
+
+    private List<TodoSearchHitDto> hits;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public List<TodoSearchHitDto> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<TodoSearchHitDto> hits) {
+        this.hits = hits;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
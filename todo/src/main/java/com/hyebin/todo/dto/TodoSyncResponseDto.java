@@ -0,0 +1,52 @@
+package com.hyebin.todo.dto;
+
+import java.util.List;
+
+public class TodoSyncResponseDto {
+
+    private List<TodoResponseDto> todos;
+    private List<Long> deleted;
+    private String token;
+    private boolean hasMore;
+    private boolean reset;
+
+    public List<TodoResponseDto> getTodos() {
+        return todos;
+    }
+
+    public void setTodos(List<TodoResponseDto> todos) {
+        this.todos = todos;
+    }
+
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<Long> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+}
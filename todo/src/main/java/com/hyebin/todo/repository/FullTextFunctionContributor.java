@@ -0,0 +1,29 @@
+package com.hyebin.todo.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// JPQL 에서 쓰는 전문 검색 함수 fulltext_score(title, content, query)
+// - MySQL: FULLTEXT(ngram) 인덱스를 쓰는 MATCH ... AGAINST (BOOLEAN MODE) 점수
+// - 그 외(H2 테스트 등): 구문이 제목/내용에 포함되는지 LOCATE 로 대신 계산 (인덱스 없음)
+// query 는 TodoSpecs.fullTextQuery 로 만든 "구문" 형식
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String FULLTEXT_SCORE = "fulltext_score";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        String pattern = functionContributions.getDialect() instanceof MySQLDialect
+                ? "match(?1, ?2) against (?3 in boolean mode)"
+                : "(case when locate(lower(replace(?3, '\"', '')), lower(?1)) > 0 then 2 else 0 end"
+                + " + case when locate(lower(replace(?3, '\"', '')), lower(coalesce(?2, ''))) > 0 then 1 else 0 end)";
+
+        functionContributions.getFunctionRegistry().registerPattern(FULLTEXT_SCORE, pattern, doubleType);
+    }
+}
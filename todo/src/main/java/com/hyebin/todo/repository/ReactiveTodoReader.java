@@ -0,0 +1,150 @@
+package com.hyebin.todo.repository;
+
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TagResponseDto;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import com.hyebin.todo.service.TodoStatsService;
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// R2DBC 읽기 전용 조회 (논블로킹, 결과를 행 단위로 흘려보냄)
+// JPA 엔티티를 거치지 않고 SQL 결과를 바로 TodoResponseDto / TagResponseDto 로 변환
+@Repository
+public class ReactiveTodoReader {
+
+    private static final String TODO_COLUMNS = "t.id, t.title, t.content, t.due_date, t.status, t.priority, "
+            + "t.created_at, t.updated_at, t.version, g.name as tag_name, g.color as tag_color";
+
+    // Sort 속성 → 컬럼
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "t.id",
+            "createdAt", "t.created_at",
+            "dueDate", "t.due_date"
+    );
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTodoReader(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    // 조건(상태/우선순위/태그/마감일 범위) + 정렬, 최대 limit 행
+    public Flux<TodoResponseDto> findTodos(TodoSearchCondition condition, Sort sort, int limit) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        // 상태/우선순위는 enum 상수 이름이라 리터럴로 넣음 (H2 R2DBC 드라이버가 String 파라미터를 CLOB 으로 보내 ENUM 과 비교하지 못함)
+        if (condition.getStatus() != null) {
+            where.add("t.status = '" + condition.getStatus().name() + "'");
+        }
+        if (condition.getPriority() != null) {
+            where.add("t.priority = '" + condition.getPriority().name() + "'");
+        }
+        if (condition.getTagId() != null) {
+            where.add("t.tag_id = :tagId");
+            params.put("tagId", condition.getTagId());
+        }
+        if (condition.getDueFrom() != null) {
+            where.add("t.due_date >= :dueFrom");
+            params.put("dueFrom", condition.getDueFrom());
+        }
+        if (condition.getDueTo() != null) {
+            where.add("t.due_date < :dueTo");
+            params.put("dueTo", condition.getDueTo());
+        }
+
+        StringBuilder sql = new StringBuilder("select ").append(TODO_COLUMNS)
+                .append(" from todo t join tag g on g.id = t.tag_id");
+        if (!where.isEmpty()) sql.append(" where ").append(String.join(" and ", where));
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(SORT_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " asc" : " desc"));
+        }
+        sql.append(" order by ").append(String.join(", ", orders)).append(" limit ").append(limit);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(ReactiveTodoReader::toTodoDto).all();
+    }
+
+    public Flux<TagResponseDto> findTags() {
+        return databaseClient.sql("select id, name, color from tag order by id")
+                .map(row -> {
+                    TagResponseDto dto = new TagResponseDto();
+                    dto.setId(row.get("id", Long.class));
+                    dto.setName(row.get("name", String.class));
+                    dto.setColor(row.get("color", String.class));
+                    return dto;
+                })
+                .all();
+    }
+
+    // TodoStatsService 와 같은 모양의 통계 (GROUP BY 집계 한 번)
+    // status 가 null 인 행은 TodoStatsService.Key 와 같이 대기(TODO)로 셈
+    public Mono<TodoStatsService.Stats> stats() {
+        return databaseClient.sql("select coalesce(status, 'TODO') as status, priority, tag_id, count(*) as cnt "
+                        + "from todo group by coalesce(status, 'TODO'), priority, tag_id")
+                .map(row -> new Object[]{
+                        row.get("status", String.class),
+                        row.get("priority", String.class),
+                        row.get("tag_id", Long.class),
+                        row.get("cnt", Long.class)
+                })
+                .all()
+                .reduce(new StatsAccumulator(), StatsAccumulator::add)
+                .map(StatsAccumulator::toStats);
+    }
+
+    private static TodoResponseDto toTodoDto(Readable row) {
+        TodoResponseDto dto = new TodoResponseDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setContent(row.get("content", String.class));
+        dto.setDueDate(row.get("due_date", LocalDateTime.class));
+        String status = row.get("status", String.class);
+        if (status != null) dto.setStatus(Status.valueOf(status));
+        String priority = row.get("priority", String.class);
+        if (priority != null) dto.setPriority(Priority.valueOf(priority));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        dto.setVersion(row.get("version", Long.class));
+        dto.setTagName(row.get("tag_name", String.class));
+        dto.setTagColor(row.get("tag_color", String.class));
+        return dto;
+    }
+
+    private static final class StatsAccumulator {
+        private long total;
+        private final Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        private final Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        private final Map<Long, Long> byTag = new HashMap<>();
+
+        StatsAccumulator add(Object[] row) {
+            long count = (Long) row[3];
+            total += count;
+            if (row[0] != null) byStatus.merge(Status.valueOf((String) row[0]), count, Long::sum);
+            if (row[1] != null) byPriority.merge(Priority.valueOf((String) row[1]), count, Long::sum);
+            if (row[2] != null) byTag.merge((Long) row[2], count, Long::sum);
+            return this;
+        }
+
+        TodoStatsService.Stats toStats() {
+            return new TodoStatsService.Stats(total, byStatus, byPriority, byTag, 0);
+        }
+    }
+}
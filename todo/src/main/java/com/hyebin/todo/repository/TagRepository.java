@@ -1,13 +1,38 @@
 package com.hyebin.todo.repository;
 
 import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
+// 선언한 조회 메서드도 읽기 전용 트랜잭션으로 (복제본이 있으면 복제본에서 읽음)
+@Transactional(readOnly = true)
 public interface TagRepository extends JpaRepository<Tag, Long> {
     List<Tag> findByNameContainingIgnoreCase(String name);
     Optional<Tag> findByName(String name);
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    // 태그별 할 일 개수/완료 개수 집계 (할 일 엔티티를 읽지 않고 한 번의 쿼리로)
+    String TODO_COUNT_QUERY = "select tg.id as id, tg.name as name, tg.color as color, " +
+            "count(t) as total, coalesce(sum(case when t.status = :done then 1 else 0 end), 0) as completed " +
+            "from Tag tg left join Todo t on t.tag = tg ";
+
+    @Query(TODO_COUNT_QUERY + "group by tg.id, tg.name, tg.color order by tg.id")
+    List<TodoCount> countTodosGroupByTag(@Param("done") Status done);
+
+    @Query(TODO_COUNT_QUERY + "where tg.id = :id group by tg.id, tg.name, tg.color")
+    Optional<TodoCount> countTodosByTagId(@Param("id") Long id, @Param("done") Status done);
+
+    interface TodoCount {
+        Long getId();
+        String getName();
+        String getColor();
+        long getTotal();
+        long getCompleted();
+    }
+}
@@ -0,0 +1,17 @@
+package com.hyebin.todo.repository;
+
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.dto.TodoResponseDto;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+// 목록 조회용 프로젝션 (TodoRepository 에 합쳐지는 커스텀 조각)
+public interface TodoListRepository {
+
+    // 조건 + 키셋 페이지를 TodoResponseDto 생성자로 바로 조회 (엔티티/프록시/스냅샷을 만들지 않음)
+    // withContent 가 false 면 TEXT content 컬럼은 읽지 않고 null
+    Window<TodoResponseDto> findListPage(Specification<Todo> spec, Sort sort, KeysetScrollPosition position,
+                                         int limit, boolean withContent);
+}
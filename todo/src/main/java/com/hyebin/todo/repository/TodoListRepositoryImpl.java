@@ -0,0 +1,98 @@
+package com.hyebin.todo.repository;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.dto.TodoResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TodoListRepositoryImpl implements TodoListRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Window<TodoResponseDto> findListPage(Specification<Todo> spec, Sort sort, KeysetScrollPosition position,
+                                                int limit, boolean withContent) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoResponseDto> query = cb.createQuery(TodoResponseDto.class);
+        Root<Todo> todo = query.from(Todo.class);
+        // tag_id 는 NOT NULL 이라 내부 조인과 결과가 같음
+        // 외부 조인이면 할 일을 먼저 읽으므로 정렬 인덱스 순서대로 limit 만큼만 읽음
+        // (내부 조인이면 작은 태그 테이블부터 읽고 할 일 전체를 정렬하는 계획을 고를 수 있음)
+        Join<Todo, Tag> tag = todo.join("tag", JoinType.LEFT);
+
+        query.select(cb.construct(TodoResponseDto.class,
+                todo.get("id"), todo.get("title"),
+                withContent ? todo.get("content") : cb.nullLiteral(String.class),
+                todo.get("dueDate"), todo.get("status"), todo.get("priority"),
+                tag.get("name"), tag.get("color"),
+                todo.get("createdAt"), todo.get("updatedAt"), todo.get("version")));
+
+        List<Predicate> where = new ArrayList<>();
+        Predicate condition = spec.toPredicate(todo, query, cb);
+        if (condition != null) where.add(condition);
+        if (!position.isInitial()) where.add(after(cb, todo, sort, position.getKeys()));
+        query.where(where.toArray(Predicate[]::new));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = todo.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+
+        // 한 행 더 읽어 다음 페이지 여부 판단
+        List<TodoResponseDto> rows = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<TodoResponseDto> page = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(page, index -> ScrollPosition.forward(keysOf(sort, page.get(index))), hasNext);
+    }
+
+    // 정렬 키 (k1, k2, ...) 가 커서 값보다 뒤인 행: k1 > v1 or (k1 = v1 and k2 > v2) or ...
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(CriteriaBuilder cb, Root<Todo> todo, Sort sort, Map<String, ?> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalSoFar = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<Comparable> path = todo.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+            List<Predicate> branch = new ArrayList<>(equalSoFar);
+            branch.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+            alternatives.add(cb.and(branch.toArray(Predicate[]::new)));
+            equalSoFar.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private static Map<String, Object> keysOf(Sort sort, TodoResponseDto row) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), switch (order.getProperty()) {
+                case "createdAt" -> row.getCreatedAt();
+                case "dueDate" -> row.getDueDate();
+                case "id" -> row.getId();
+                default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + order.getProperty());
+            });
+        }
+        return keys;
+    }
+}
@@ -3,19 +3,157 @@ package com.hyebin.todo.repository;
 import com.hyebin.todo.domain.entity.Todo;
 import com.hyebin.todo.domain.enums.Priority;
 import com.hyebin.todo.domain.enums.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
-    List<Todo> findAllByOrderByCreatedAtDesc();
-    List<Todo> findAllByOrderByDueDateAsc();
+// 목록 조회는 모두 태그를 같은 쿼리에서 fetch join (DTO 변환 시 N+1 방지)
+// 쿼리 캐시는 쓰지 않음: 목록은 키셋 페이지라 커서마다 결과가 다르고 할 일이 하나만 바뀌어도 무효화되며,
+// 통계는 TodoStatsService 스냅샷으로 응답 (재집계 쿼리는 항상 DB 에서). 단건 조회는 엔티티 2차 캐시
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo>, TodoListRepository {
+    @Override
+    @EntityGraph(attributePaths = "tag")
+    List<Todo> findAll();
 
-    List<Todo> findByTitleContaining(String title);
-    List<Todo> findByTag_Id(Long tagId);
-    List<Todo> findByStatus(Status status);
-    List<Todo> findByPriority(Priority priority);
+    // 단건 변경이 0건일 때 없는 것인지, 버전이 다른 것인지 구분
+    @Query("select t.version from Todo t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    boolean existsByTag_Id(Long tagId);
+
+    // 단건 변경 (엔티티를 읽지 않고 대상 컬럼만 UPDATE/DELETE, 영향받은 행 수 반환)
+    // version 이 주어지면 그 버전일 때만 변경 (If-Match)
+    // status 컬럼은 null 을 허용하므로 null 은 대기(TODO)로 봄
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.status = :to, t.updatedAt = :now, t.version = t.version + 1 " +
+            "where t.id = :id and coalesce(t.status, com.hyebin.todo.domain.enums.Status.TODO) = :from " +
+            "and (:version is null or t.version = :version)")
+    int updateStatus(@Param("id") Long id, @Param("from") Status from, @Param("to") Status to,
+                     @Param("now") LocalDateTime now, @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.priority = :priority, t.updatedAt = :now, t.version = t.version + 1 " +
+            "where t.id = :id and (:version is null or t.version = :version)")
+    int updatePriority(@Param("id") Long id, @Param("priority") Priority priority, @Param("now") LocalDateTime now,
+                       @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.id = :id")
+    int deleteTodoById(@Param("id") Long id);
+
+    // 일괄 변경 (엔티티를 읽지 않고 UPDATE/DELETE ... WHERE id IN 한 번으로)
+    // @UpdateTimestamp 가 적용되지 않으므로 updatedAt 을 직접 지정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.status = :status, t.updatedAt = :now, t.version = t.version + 1 where t.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Status status,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.priority = :priority, t.updatedAt = :now, t.version = t.version + 1 where t.id in :ids")
+    int updatePriorityByIdIn(@Param("ids") Collection<Long> ids, @Param("priority") Priority priority,
+                             @Param("now") LocalDateTime now);
+
+    // write-behind 큐 반영: now 이후에 다른 쓰기로 바뀐 행은 건너뜀 (그 쓰기가 더 나중이므로)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.status = :status, t.updatedAt = :now, t.version = t.version + 1 " +
+            "where t.id in :ids and (t.updatedAt is null or t.updatedAt <= :now)")
+    int updateQueuedStatus(@Param("ids") Collection<Long> ids, @Param("status") Status status,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.priority = :priority, t.updatedAt = :now, t.version = t.version + 1 " +
+            "where t.id in :ids and (t.updatedAt is null or t.updatedAt <= :now)")
+    int updateQueuedPriority(@Param("ids") Collection<Long> ids, @Param("priority") Priority priority,
+                             @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 전체 내보내기용 스트림 (id 순)
+    // fetch size 만큼씩 앞으로만 읽는 커서, MySQL 은 URL 의 useCursorFetch=true 가 있어야 서버 커서를 사용
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Todo t left join fetch t.tag order by t.id")
+    Stream<Todo> streamAllOrderById();
+
+    // 증분 동기화: (updatedAt, id) 워터마크 이후, upper 이전 변경분 (idx_todo_updated_at)
+    @Query("select t from Todo t join fetch t.tag where t.updatedAt < :upper " +
+            "and (t.updatedAt > :since or (t.updatedAt = :since and t.id > :id)) " +
+            "order by t.updatedAt, t.id")
+    List<Todo> findChangedSince(@Param("since") LocalDateTime since, @Param("id") long id,
+                                @Param("upper") LocalDateTime upper, Limit limit);
+
+    // 마감 알림 인덱스: 상태별 (dueDate, id) 키셋 이후, to 이전 (idx_todo_status_due_date 범위 스캔, 테이블 정렬 없음)
+    String DUE_COLUMNS = "select t.id as id, t.title as title, t.dueDate as dueDate, t.priority as priority, " +
+            "t.tag.id as tagId from Todo t ";
+
+    @Query(DUE_COLUMNS + "where t.status = :status and t.dueDate < :to " +
+            "and (t.dueDate > :fromDue or (t.dueDate = :fromDue and t.id > :fromId)) " +
+            "order by t.dueDate, t.id")
+    List<DueTodo> findDueAfter(@Param("status") Status status, @Param("fromDue") LocalDateTime fromDue,
+                               @Param("fromId") long fromId, @Param("to") LocalDateTime to, Limit limit);
+
+    @Query(DUE_COLUMNS + "where t.status = :status and t.id in :ids")
+    List<DueTodo> findDueByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    interface DueTodo {
+        Long getId();
+        String getTitle();
+        LocalDateTime getDueDate();
+        Priority getPriority();
+        Long getTagId();
+    }
+
+    // 전문 검색 (관련도 순, 점수와 함께)
+    @Query("select t, fulltext_score(t.title, t.content, :query) from Todo t join fetch t.tag " +
+            "where fulltext_score(t.title, t.content, :query) > 0 " +
+            "order by fulltext_score(t.title, t.content, :query) desc, t.id desc")
+    Slice<Object[]> searchFullText(@Param("query") String query, Pageable pageable);
 
     long countByStatus(Status status);
-    long countByTag_IdAndStatus(Long tagId, Status status);
+
+    // 목록 ETag 용 데이터 버전: 마지막 수정 시각(idx_todo_updated_at), 마지막 삭제 시각(tombstone 인덱스), 태그 수/버전 합
+    // 모두 인덱스 끝 한 번 또는 작은 태그 테이블이라 목록 조회보다 가벼움
+    @Query(value = "select (select max(updated_at) from todo) as todoUpdatedAt, " +
+            "(select max(deleted_at) from todo_tombstone) as deletedAt, " +
+            "(select count(*) from tag) as tagCount, " +
+            "(select coalesce(sum(version), 0) from tag) as tagVersion", nativeQuery = true)
+    ListVersion findListVersion();
+
+    interface ListVersion {
+        LocalDateTime getTodoUpdatedAt();
+        LocalDateTime getDeletedAt();
+        long getTagCount();
+        long getTagVersion();
+    }
+
+    // 상태/우선순위/태그별 개수를 한 번에 집계
+    @Query("select t.status as status, t.priority as priority, t.tag.id as tagId, count(t) as count " +
+            "from Todo t group by t.status, t.priority, t.tag.id")
+    List<GroupCount> countGroupByStatusAndPriorityAndTag();
+
+    interface GroupCount {
+        Status getStatus();
+        Priority getPriority();
+        Long getTagId();
+        long getCount();
+    }
 }
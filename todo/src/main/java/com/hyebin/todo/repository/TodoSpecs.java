@@ -0,0 +1,66 @@
+package com.hyebin.todo.repository;
+
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// 할 일 검색 조건 → 하나의 WHERE 절로 조합
+public final class TodoSpecs {
+
+    private TodoSpecs() {}
+
+    public static Specification<Todo> matches(TodoSearchCondition condition) {
+        return Specification.allOf(
+                hasStatus(condition.getStatus()),
+                hasPriority(condition.getPriority()),
+                hasTag(condition.getTagId()),
+                dueOnOrAfter(condition.getDueFrom()),
+                dueBefore(condition.getDueTo()),
+                matchesText(condition.getKeyword())
+        );
+    }
+
+    public static Specification<Todo> hasStatus(Status status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Todo> hasPriority(Priority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    // tag.id 는 외래키 컬럼이라 조인 없이 비교
+    public static Specification<Todo> hasTag(Long tagId) {
+        return (root, query, cb) -> tagId == null ? null : cb.equal(root.get("tag").get("id"), tagId);
+    }
+
+    public static Specification<Todo> dueOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Todo> dueBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("dueDate"), to);
+    }
+
+    // 제목/내용 전문 검색 (MySQL 은 FULLTEXT 인덱스 사용, FullTextFunctionContributor 참고)
+    public static Specification<Todo> matchesText(String keyword) {
+        return (root, query, cb) -> {
+            String phrase = fullTextQuery(keyword);
+            if (phrase == null) return null;
+            return cb.greaterThan(
+                    cb.function(FullTextFunctionContributor.FULLTEXT_SCORE, Double.class,
+                            root.get("title"), root.get("content"), cb.literal(phrase)),
+                    0.0);
+        };
+    }
+
+    // 검색어 → BOOLEAN MODE 구문 검색어 ("검색어"), 비어 있으면 null
+    public static String fullTextQuery(String keyword) {
+        if (keyword == null) return null;
+        String cleaned = keyword.replace("\"", " ").trim();
+        return cleaned.isEmpty() ? null : "\"" + cleaned + "\"";
+    }
+}
@@ -0,0 +1,36 @@
+package com.hyebin.todo.repository;
+
+import com.hyebin.todo.domain.entity.TodoTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    // 단건 삭제 직후 기록 (INSERT 한 번)
+    @Modifying
+    @Query("insert into TodoTombstone (todoId, deletedAt) values (:id, :now)")
+    int insertTombstone(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 일괄 삭제 전에 실제로 있는 할 일만 기록 (INSERT ... SELECT 한 번)
+    @Modifying
+    @Query("insert into TodoTombstone (todoId, deletedAt) select t.id, :now from Todo t where t.id in :ids")
+    int insertTombstonesFor(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // (deletedAt, todoId) 워터마크 이후, upper 이전 삭제분
+    @Query("select tb from TodoTombstone tb where tb.deletedAt < :upper " +
+            "and (tb.deletedAt > :since or (tb.deletedAt = :since and tb.todoId > :id)) " +
+            "order by tb.deletedAt, tb.todoId")
+    List<TodoTombstone> findChangedSince(@Param("since") LocalDateTime since, @Param("id") long id,
+                                         @Param("upper") LocalDateTime upper, Limit limit);
+
+    @Modifying
+    @Query("delete from TodoTombstone tb where tb.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
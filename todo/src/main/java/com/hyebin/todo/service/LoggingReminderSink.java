@@ -0,0 +1,18 @@
+package com.hyebin.todo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// 기본 마감 알림 sink: 로그 한 줄 (메일/푸시 등은 TodoReminderSink 빈을 추가)
+@Component
+public class LoggingReminderSink implements TodoReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void remind(Reminder reminder) {
+        log.info("마감 알림 {}: 할 일 {} \"{}\" (마감 {})",
+                reminder.type(), reminder.todoId(), reminder.title(), reminder.dueDate());
+    }
+}
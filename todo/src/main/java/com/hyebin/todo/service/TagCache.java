@@ -0,0 +1,135 @@
+package com.hyebin.todo.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 태그 인메모리 캐시
+// - 태그는 개수가 적고 거의 바뀌지 않으므로 전체 태그를 하나의 스냅샷으로 캐시
+// - 태그 수가 max-tags 를 넘으면 스냅샷을 만들지 않고 DB 로 조회
+// - TagController 의 생성/수정/삭제 후 invalidate() 로 비우고, TTL 은 다른 인스턴스의 변경에 대한 안전장치
+// - 반환되는 Tag 는 영속성 컨텍스트와 분리된 객체이므로 읽기 전용으로 사용
+// - 스냅샷은 모든 요청이 같이 쓰므로 항상 primary 에서 읽음 (복제본에서 읽으면 방금 만든 태그가 빠진 목록을 TTL 동안 캐시)
+@Component
+public class TagCache implements MeterBinder {
+
+    private static final String KEY = "tags";
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate primaryRead;
+    private final int maxTags;
+    private final LoadingCache<String, Snapshot> cache;
+
+    public TagCache(TagRepository tagRepository, PlatformTransactionManager transactionManager,
+                    @Value("${todo.tag-cache.max-tags:1000}") int maxTags,
+                    @Value("${todo.tag-cache.ttl:10m}") Duration ttl) {
+        this.tagRepository = tagRepository;
+        // 쓰기 트랜잭션은 ReplicaRoutingDataSource 가 primary 로 보냄
+        // 바깥의 읽기 전용 트랜잭션(복제본 커넥션)에 참여하지 않도록 새 트랜잭션으로
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxTags = maxTags;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(key -> load());
+    }
+
+    // 적중/미스/로드 메트릭 (cache.* , cache=tags)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "tags");
+    }
+
+    // 전체 태그 (id 순)
+    public List<Tag> findAll() {
+        Snapshot snapshot = cache.get(KEY);
+        return snapshot.complete() ? snapshot.all() : tagRepository.findAll(Sort.by("id"));
+    }
+
+    public Optional<Tag> findById(Long id) {
+        if (id == null) return Optional.empty();
+        Snapshot snapshot = cache.get(KEY);
+        return snapshot.complete() ? Optional.ofNullable(snapshot.byId().get(id)) : tagRepository.findById(id);
+    }
+
+    // 여러 태그를 한 번에 (없는 id 는 결과에서 빠짐)
+    public Map<Long, Tag> findAllById(Collection<Long> ids) {
+        Snapshot snapshot = cache.get(KEY);
+        if (!snapshot.complete()) {
+            return tagRepository.findAllById(ids).stream().collect(Collectors.toMap(Tag::getId, tag -> tag));
+        }
+        Map<Long, Tag> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Tag tag = snapshot.byId().get(id);
+            if (tag != null) result.put(id, tag);
+        }
+        return result;
+    }
+
+    // 태그명 중복 검사 (MySQL 기본 collation 처럼 대소문자 무시)
+    public boolean existsByName(String name) {
+        Snapshot snapshot = cache.get(KEY);
+        if (!snapshot.complete()) return tagRepository.existsByName(name);
+        return name != null && snapshot.byName().containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    // 태그명 부분 검색 (대소문자 무시)
+    public List<Tag> findByNameContainingIgnoreCase(String keyword) {
+        Snapshot snapshot = cache.get(KEY);
+        if (!snapshot.complete()) return tagRepository.findByNameContainingIgnoreCase(keyword);
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        return snapshot.all().stream()
+                .filter(tag -> tag.getName().toLowerCase(Locale.ROOT).contains(lower))
+                .collect(Collectors.toList());
+    }
+
+    // 태그 변경 후 호출
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private Snapshot load() {
+        List<Tag> tags = primaryRead.execute(status ->
+                tagRepository.findAll(PageRequest.of(0, maxTags + 1, Sort.by("id"))).getContent());
+        if (tags.size() > maxTags) {
+            return new Snapshot(false, List.of(), Map.of(), Map.of());
+        }
+
+        Map<Long, Tag> byId = new LinkedHashMap<>();
+        Map<String, Tag> byName = new LinkedHashMap<>();
+        for (Tag tag : tags) {
+            byId.put(tag.getId(), tag);
+            byName.put(tag.getName().toLowerCase(Locale.ROOT), tag);
+        }
+        return new Snapshot(true, List.copyOf(tags), Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    private record Snapshot(boolean complete, List<Tag> all, Map<Long, Tag> byId, Map<String, Tag> byName) {}
+}
@@ -0,0 +1,228 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.enums.Status;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 변경 이벤트 인메모리 버스
+// - publish 는 트랜잭션 커밋 후에만 전달 (롤백된 변경은 나가지 않음)
+// - 구독자마다 크기가 정해진 버퍼를 두고 전송은 별도 스레드에서 처리하므로 느린 구독자가 쓰기 스레드를 막지 않음
+// - 전송 스레드는 이 버스 전용 풀 (sender-threads 개), 공용 applicationTaskExecutor 의 다른 작업과 섞이지 않음
+//   구독자마다 대기 중인 전송 작업은 최대 하나라서 큐 길이는 구독자 수를 넘지 않음
+// - 한 번의 전송이 send-timeout 보다 오래 걸리는 구독자는 heartbeat 주기마다 찾아 구독을 끊음
+//   (막힌 쓰기는 컨테이너의 쓰기 타임아웃에 풀리고, 그 뒤로는 이 구독자에게 보내지 않으므로 풀 스레드를 계속 잡지 않음)
+// - 버퍼 안에서 같은 할 일/태그의 이벤트는 최신 것 하나로 합치고, 그래도 넘치면 버퍼를 비우고 RESYNC 하나만 남김
+@Component
+public class TodoChangeBus implements MeterBinder {
+
+    public static final int BUFFER_SIZE = 256;
+    public static final int MAX_SUBSCRIBERS = 1000;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    // 커밋 후 발행된 변경 수 (메트릭)
+    private final AtomicLong changes = new AtomicLong();
+    private final ThreadPoolExecutor executor;
+    private final long sendTimeoutNanos;
+
+    public TodoChangeBus(@Value("${todo.changes.sender-threads:16}") int senderThreads,
+                         @Value("${todo.changes.send-timeout-ms:10000}") long sendTimeoutMs) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "todo-changes-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 구독자에게 보내는 쪽 (SSE 등)
+    public interface Sink {
+        void send(long id, TodoChangeEvent event) throws Exception;
+
+        void heartbeat() throws Exception;
+    }
+
+    public void publish(TodoChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    // 구독 (구독자 수가 한도를 넘으면 IllegalStateException)
+    public Subscription subscribe(Long tagId, Status status, Sink sink) {
+        if (subscriptions.size() >= MAX_SUBSCRIBERS) {
+            throw new IllegalStateException("구독자가 너무 많습니다.");
+        }
+        Subscription subscription = new Subscription(tagId, status, sink);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.changes.subscribers", subscriptions, Set::size)
+                .description("변경 스트림 구독자 수")
+                .register(registry);
+        FunctionCounter.builder("todo.changes.published", changes, AtomicLong::get)
+                .description("커밋 후 발행된 변경 이벤트 수")
+                .register(registry);
+        Gauge.builder("todo.changes.sending", executor, ThreadPoolExecutor::getActiveCount)
+                .description("전송 중인 구독자 수 (전송 스레드 사용량)")
+                .register(registry);
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    // 연결이 끊긴 구독자를 찾아내도록 주기적으로 heartbeat, 전송이 막힌 구독자는 끊음
+    @Scheduled(fixedDelayString = "${todo.changes.heartbeat-ms:20000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.isStuck(now)) subscription.close();
+            else subscription.offerHeartbeat();
+        }
+    }
+
+    // 구독 조건에 맞으면 그대로, 바뀌기 전에만 맞았으면 REMOVED 로 전달
+    private void dispatch(TodoChangeEvent event) {
+        changes.incrementAndGet();
+        for (Subscription subscription : subscriptions) {
+            if (event.matches(subscription.tagId, subscription.status)) subscription.offer(event);
+            else if (event.matchedBefore(subscription.tagId, subscription.status)) subscription.offer(event.removed());
+        }
+    }
+
+    public final class Subscription {
+
+        private static final Object HEARTBEAT = new Object();
+
+        private final Long tagId;
+        private final Status status;
+        private final Sink sink;
+        // 합치기 키 → 이벤트 (전송 순서는 처음 들어온 순서)
+        private final Map<Object, Object> buffer = new LinkedHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // 진행 중인 전송의 시작 시각 (System.nanoTime), 전송 중이 아니면 0
+        private volatile long sendingSince;
+
+        private Subscription(Long tagId, Status status, Sink sink) {
+            this.tagId = tagId;
+            this.status = status;
+            this.sink = sink;
+        }
+
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+        }
+
+        private void offer(TodoChangeEvent event) {
+            Object key = key(event);
+            synchronized (buffer) {
+                if (buffer.size() >= BUFFER_SIZE && !buffer.containsKey(key)) {
+                    buffer.clear();
+                    buffer.put(TodoChangeEvent.Type.RESYNC, TodoChangeEvent.of(TodoChangeEvent.Type.RESYNC));
+                } else {
+                    buffer.put(key, event);
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void offerHeartbeat() {
+            synchronized (buffer) {
+                buffer.putIfAbsent(HEARTBEAT, HEARTBEAT);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (closed || !draining.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                draining.set(false);
+            }
+        }
+
+        private boolean isStuck(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since > sendTimeoutNanos;
+        }
+
+        private void drain() {
+            while (!closed) {
+                List<Object> batch;
+                synchronized (buffer) {
+                    if (buffer.isEmpty()) {
+                        draining.set(false);
+                        return;
+                    }
+                    batch = new ArrayList<>(buffer.values());
+                    buffer.clear();
+                }
+                try {
+                    for (Object item : batch) {
+                        if (closed) break;
+                        sendingSince = System.nanoTime();
+                        if (item == HEARTBEAT) sink.heartbeat();
+                        else sink.send(sequence.incrementAndGet(), (TodoChangeEvent) item);
+                        sendingSince = 0;
+                    }
+                } catch (Exception e) {
+                    // 연결이 끊긴 구독자
+                    sendingSince = 0;
+                    close();
+                }
+            }
+            draining.set(false);
+        }
+
+        private Object key(TodoChangeEvent event) {
+            if (event.todoId() != null) return event.todoId();
+            if (event.tagId() != null) return "tag:" + event.tagId();
+            return event.type();
+        }
+    }
+}
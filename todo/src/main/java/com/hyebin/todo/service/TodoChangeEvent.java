@@ -0,0 +1,78 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+
+import java.time.LocalDateTime;
+
+// 할 일/태그 변경 이벤트 (커밋 후 TodoChangeBus 로 구독자에게 전달)
+// - 단건 UPDATE/DELETE 쿼리로 바뀐 경우 알 수 있는 값만 채움 (나머지는 null)
+// - 같은 할 일의 이벤트는 구독자 버퍼에서 최신 것 하나로 합쳐지므로, 클라이언트는 DELETED/REMOVED 외의 이벤트를 upsert 로 처리
+// - previousTagId/previousStatus 는 바뀌기 전 값 (구독 조건에서 벗어난 할 일을 REMOVED 로 알리는 데 씀)
+public record TodoChangeEvent(Type type, Long todoId, Long tagId, Status status, Priority priority,
+                              Long previousTagId, Status previousStatus, LocalDateTime at) {
+
+    public enum Type {
+        CREATED, UPDATED, COMPLETED, RESTARTED, PRIORITY_CHANGED, DELETED,
+        // 바뀌기 전에는 구독 조건에 맞았지만 지금은 아님 (다른 태그로 옮김, 완료 등) → 클라이언트 목록에서 제거
+        REMOVED,
+        // 일괄 처리/가져오기처럼 여러 건이 한 번에 바뀜 → 다시 조회
+        BULK_CHANGED,
+        TAG_CREATED, TAG_UPDATED, TAG_DELETED,
+        // 구독자 버퍼가 넘쳐 이벤트를 버림 → 다시 조회
+        RESYNC
+    }
+
+    public static TodoChangeEvent of(Type type, Todo todo) {
+        return new TodoChangeEvent(type, todo.getId(), todo.getTag() != null ? todo.getTag().getId() : null,
+                todo.getStatus(), todo.getPriority(), null, null, LocalDateTime.now());
+    }
+
+    // 수정 (바뀌기 전 태그/상태와 함께)
+    public static TodoChangeEvent updated(Todo todo, Long previousTagId, Status previousStatus) {
+        return new TodoChangeEvent(Type.UPDATED, todo.getId(), todo.getTag() != null ? todo.getTag().getId() : null,
+                todo.getStatus(), todo.getPriority(), previousTagId, previousStatus, LocalDateTime.now());
+    }
+
+    // 완료/다시 시작 (상태는 대기 ↔ 완료 둘 중 하나이므로 바뀌기 전 상태는 반대쪽)
+    public static TodoChangeEvent statusChanged(Long todoId, Status status) {
+        boolean done = status == Status.DONE;
+        return new TodoChangeEvent(done ? Type.COMPLETED : Type.RESTARTED, todoId, null, status, null,
+                null, done ? Status.TODO : Status.DONE, LocalDateTime.now());
+    }
+
+    public static TodoChangeEvent todo(Type type, Long todoId, Status status, Priority priority) {
+        return new TodoChangeEvent(type, todoId, null, status, priority, null, null, LocalDateTime.now());
+    }
+
+    public static TodoChangeEvent tag(Type type, Long tagId) {
+        return new TodoChangeEvent(type, null, tagId, null, null, null, null, LocalDateTime.now());
+    }
+
+    public static TodoChangeEvent of(Type type) {
+        return new TodoChangeEvent(type, null, null, null, null, null, null, LocalDateTime.now());
+    }
+
+    // 구독 조건 (값이 없는 항목은 통과: 삭제처럼 태그/상태를 모르는 이벤트도 전달)
+    public boolean matches(Long tagIdFilter, Status statusFilter) {
+        return matches(tagIdFilter, statusFilter, tagId, status);
+    }
+
+    // 바뀌기 전 값으로는 구독 조건에 맞았는지 (바뀌기 전 값을 모르는 이벤트는 false)
+    public boolean matchedBefore(Long tagIdFilter, Status statusFilter) {
+        if (previousTagId == null && previousStatus == null) return false;
+        return matches(tagIdFilter, statusFilter,
+                previousTagId != null ? previousTagId : tagId, previousStatus != null ? previousStatus : status);
+    }
+
+    // 구독 조건에서 벗어났음을 알리는 이벤트 (같은 할 일의 최신 값과 함께)
+    public TodoChangeEvent removed() {
+        return new TodoChangeEvent(Type.REMOVED, todoId, tagId, status, priority, previousTagId, previousStatus, at);
+    }
+
+    private static boolean matches(Long tagIdFilter, Status statusFilter, Long tagId, Status status) {
+        if (tagIdFilter != null && tagId != null && !tagIdFilter.equals(tagId)) return false;
+        return statusFilter == null || status == null || statusFilter == status;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hyebin.todo.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 키셋 페이지 커서 인코딩/디코딩
+// 형식: base64url("정렬기준|정렬키값|id") - 클라이언트에게는 불투명한 문자열
+public final class TodoCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private TodoCursor() {}
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    public static String next(TodoSort sort, Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) return null;
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        return encode(sort, position);
+    }
+
+    public static String encode(TodoSort sort, KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        Object value = sort.getProperty() == null ? null : keys.get(sort.getProperty());
+        String raw = sort.name() + SEPARATOR + (value == null ? "" : value) + SEPARATOR + keys.get("id");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지, 형식이 잘못되었거나 다른 정렬의 커서면 IllegalArgumentException
+    public static ScrollPosition decode(TodoSort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        if (parts.length != 3 || !sort.name().equals(parts[0])) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (sort.getProperty() != null) {
+                keys.put(sort.getProperty(), LocalDateTime.parse(parts[1]));
+            }
+            keys.put("id", Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
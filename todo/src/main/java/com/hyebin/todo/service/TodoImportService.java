@@ -0,0 +1,357 @@
+package com.hyebin.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 할 일 대량 가져오기 (NDJSON / CSV 스트리밍)
+// - 요청 본문을 한 행씩 읽어 CHUNK_SIZE 행마다 한 트랜잭션으로 저장 (JDBC 배치 INSERT, FLUSH_SIZE 마다 flush/clear)
+// - 태그는 이름(대소문자 무시)으로 메모리 맵에서 찾고, 없으면 한 번만 만들어 재사용
+// - 잘못된 행은 건너뛰고 줄 번호와 함께 보고, DB 오류가 난 청크는 그 청크만 롤백
+// - 내보내기(GET /api/todos/export) 결과를 그대로 가져올 수 있음 (id/createdAt/updatedAt/version 은 무시)
+@Service
+public class TodoImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoImportService.class);
+
+    public static final int CHUNK_SIZE = 1000;
+    private static final int FLUSH_SIZE = 250;
+    // 응답에 담는 행 오류 최대 개수 (실패 건수는 전부 집계)
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String DEFAULT_TAG_COLOR = "#6c757d";
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private TodoStatsService todoStatsService;
+
+    @Autowired
+    private TodoReminderService todoReminderService;
+
+    @Autowired
+    private TodoChangeBus todoChangeBus;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format { NDJSON, CSV }
+
+    public Result importTodos(InputStream body, Format format) throws IOException {
+        long started = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowSource source = format == Format.CSV ? new CsvRows(reader) : new NdjsonRows(reader, objectMapper);
+
+        Progress progress = new Progress(loadTags());
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        Row row;
+        while ((row = source.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                saveChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        saveChunk(chunk, progress);
+
+        if (progress.imported > 0) {
+            todoStatsService.markStale();
+            todoReminderService.markStale();
+            todoChangeBus.publish(TodoChangeEvent.of(TodoChangeEvent.Type.BULK_CHANGED));
+        }
+        if (progress.createdTags > 0) tagCache.invalidate();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("할 일 가져오기 완료: {}행 중 {}건 저장, {}건 실패, 태그 {}개 생성 ({}ms)",
+                progress.total, progress.imported, progress.failed, progress.createdTags, elapsedMillis);
+        return new Result(progress.total, progress.imported, progress.failed, progress.createdTags,
+                elapsedMillis, progress.errors);
+    }
+
+    private Map<String, Tag> loadTags() {
+        Map<String, Tag> tags = new HashMap<>();
+        for (Tag tag : tagCache.findAll()) {
+            tags.put(tagKey(tag.getName()), tag);
+        }
+        return tags;
+    }
+
+    // 청크 하나 = 트랜잭션 하나
+    private void saveChunk(List<Row> chunk, Progress progress) {
+        if (chunk.isEmpty()) return;
+        progress.total += chunk.size();
+
+        Map<String, Tag> createdInChunk = new HashMap<>();
+        List<RowError> rowErrors = new ArrayList<>();
+        try {
+            int saved = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Row row : chunk) {
+                    Todo todo;
+                    try {
+                        todo = toTodo(row, progress.tags, createdInChunk);
+                    } catch (IllegalArgumentException e) {
+                        rowErrors.add(new RowError(row.line(), e.getMessage()));
+                        continue;
+                    }
+                    entityManager.persist(todo);
+                    if (++count % FLUSH_SIZE == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return count;
+            });
+            progress.imported += saved;
+            progress.createdTags += createdInChunk.size();
+            progress.failed += rowErrors.size();
+            rowErrors.forEach(progress::report);
+        } catch (DataAccessException | PersistenceException e) {
+            // 롤백된 청크에서 만든 태그는 맵에서도 제거
+            createdInChunk.keySet().forEach(progress.tags::remove);
+            progress.failed += chunk.size();
+            progress.report(new RowError(chunk.get(0).line(),
+                    chunk.get(0).line() + "~" + chunk.get(chunk.size() - 1).line() + "행 저장 실패: "
+                            + rootMessage(e)));
+        }
+        log.info("할 일 가져오기 진행: {}행 처리, {}건 저장, {}건 실패", progress.total, progress.imported, progress.failed);
+    }
+
+    private Todo toTodo(Row row, Map<String, Tag> tags, Map<String, Tag> createdInChunk) {
+        if (row.error() != null) throw new IllegalArgumentException(row.error());
+        Map<String, String> values = row.values();
+
+        String title = trimToNull(values.get("title"));
+        if (title == null) throw new IllegalArgumentException("제목을 입력하세요");
+        if (title.length() > 100) throw new IllegalArgumentException("제목은 100자 이하여야 합니다");
+
+        String tagName = trimToNull(values.get("tagName"));
+        if (tagName == null) throw new IllegalArgumentException("태그명은 필수입니다");
+        if (tagName.length() > 30) throw new IllegalArgumentException("태그명은 30자 이하여야 합니다");
+
+        Todo todo = new Todo(title, values.get("content"), parseDueDate(values.get("dueDate")), null);
+        String status = trimToNull(values.get("status"));
+        if (status != null) todo.setStatus(parseEnum(Status.class, status, "상태"));
+        String priority = trimToNull(values.get("priority"));
+        if (priority != null) todo.setPriority(parseEnum(Priority.class, priority, "우선순위"));
+
+        String key = tagKey(tagName);
+        Tag tag = tags.get(key);
+        if (tag == null) {
+            String color = trimToNull(values.get("tagColor"));
+            if (color != null && color.length() > 7) throw new IllegalArgumentException("잘못된 태그 색상: " + color);
+            tag = new Tag(tagName);
+            tag.setColor(color != null ? color : DEFAULT_TAG_COLOR);
+            entityManager.persist(tag);
+            tags.put(key, tag);
+            createdInChunk.put(key, tag);
+        }
+        todo.setTag(tag.getId() != null && !entityManager.contains(tag)
+                ? entityManager.getReference(Tag.class, tag.getId()) : tag);
+        return todo;
+    }
+
+    private static LocalDateTime parseDueDate(String value) {
+        String text = trimToNull(value);
+        if (text == null) return LocalDateTime.now();
+        try {
+            return text.length() == 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 마감일: " + text);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String label) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 " + label + " 값: " + value);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) cause = cause.getCause();
+        return cause.getMessage();
+    }
+
+    // MySQL 기본 collation 처럼 태그명 대소문자 무시
+    private static String tagKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    public record RowError(long line, String message) {}
+
+    public record Result(long total, long imported, long failed, int createdTags, long elapsedMillis,
+                         List<RowError> errors) {}
+
+    private static final class Progress {
+        final Map<String, Tag> tags;
+        final List<RowError> errors = new ArrayList<>();
+        long total;
+        long imported;
+        long failed;
+        int createdTags;
+
+        Progress(Map<String, Tag> tags) {
+            this.tags = tags;
+        }
+
+        void report(RowError error) {
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(error);
+        }
+    }
+
+    // 한 행 (line 은 행이 시작하는 줄 번호, error 는 파싱 오류)
+    private record Row(long line, Map<String, String> values, String error) {}
+
+    private interface RowSource {
+        // 더 이상 행이 없으면 null
+        Row next() throws IOException;
+    }
+
+    // 한 줄에 JSON 객체 하나, 빈 줄은 건너뜀
+    private static final class NdjsonRows implements RowSource {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long line;
+
+        NdjsonRows(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) continue;
+                try {
+                    Map<String, String> values = new HashMap<>();
+                    objectMapper.readTree(text).properties().forEach(field ->
+                            values.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText()));
+                    return new Row(line, values, null);
+                } catch (IOException e) {
+                    return new Row(line, Map.of(), "JSON 형식이 아닙니다");
+                }
+            }
+            return null;
+        }
+    }
+
+    // 첫 행은 헤더, 값은 RFC 4180 (따옴표 안의 쉼표/개행 허용, "" 는 따옴표)
+    private static final class CsvRows implements RowSource {
+        private final Reader reader;
+        private List<String> header;
+        private long line = 1;
+
+        CsvRows(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) return null;
+                if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) names.set(0, names.get(0).substring(1));
+                header = names.stream().map(String::trim).toList();
+            }
+            while (true) {
+                long start = line;
+                List<String> fields = readRecord();
+                if (fields == null) return null;
+                if (fields.size() == 1 && fields.get(0).isEmpty()) continue;
+                if (fields.size() != header.size()) {
+                    return new Row(start, Map.of(), "열 개수가 헤더와 다릅니다 (" + fields.size() + "/" + header.size() + ")");
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    values.put(header.get(i), fields.get(i).isEmpty() ? null : fields.get(i));
+                }
+                return new Row(start, values, null);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) reader.reset();
+                        }
+                    } else {
+                        if (c == '\n') line++;
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) return null;
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
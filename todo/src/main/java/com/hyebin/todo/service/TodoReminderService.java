@@ -0,0 +1,337 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TodoRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 마감 알림 (마감 임박 UPCOMING / 마감 지남 OVERDUE)
+// - 대기(TODO) 할 일 중 마감일이 [지금 - overdue-lookback, 지금 + horizon) 인 것만 (마감일, id) 순 인덱스로 메모리에 올림
+//   적재는 idx_todo_status_due_date 범위 키셋 조회라 테이블 정렬이 없고, 창이 앞으로 가면 새로 들어온 구간만 이어서 읽음
+// - 알림은 시각 순 대기열에서 tick 마다 지금까지 도래한 것만 꺼내 TodoReminderSink 로 보냄 (할 일마다 종류별로 한 번)
+// - TodoService 쓰기가 커밋되면 바뀐 할 일만 반영 (생성/수정은 엔티티 값으로, 다시 시작/우선순위/일괄 처리는 id 로 다시 조회)
+// - 인덱스와 대기열은 tick 스레드 하나만 고치고 (커밋 후 변경도 큐에 넣어 다음 tick 에 반영), 조회는 잠금 없이 읽음
+// - GET /api/todos/due 는 이 인덱스에서 응답
+// - 이 인스턴스 메모리 기준 (TodoStatsService 스냅샷과 같이 단일 인스턴스 기준, 재시작하면 lookback 안의 지난 마감은 다시 알림)
+@Service
+public class TodoReminderService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoReminderService.class);
+
+    // 적재/재조회 한 번에 읽는 행 수
+    private static final int LOAD_CHUNK = 1000;
+    // 창을 넓힐 때 horizon 보다 이만큼 더 읽어 둠 (tick 마다 조회하지 않도록)
+    private static final Duration EXTEND_AHEAD = Duration.ofMinutes(10);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ObjectProvider<TodoReminderSink> sinks;
+
+    @Value("${todo.reminder.enabled:true}")
+    private boolean enabled;
+
+    @Value("${todo.reminder.horizon:24h}")
+    private Duration horizon;
+
+    @Value("${todo.reminder.lead:15m}")
+    private Duration lead;
+
+    @Value("${todo.reminder.overdue-lookback:1h}")
+    private Duration overdueLookback;
+
+    @Value("${todo.reminder.max-entries:100000}")
+    private int maxEntries;
+
+    // (마감일, id) 순 인덱스와 id → 항목 (조회 스레드가 읽음)
+    private final ConcurrentSkipListMap<Key, Entry> index = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    // 커밋 후 들어온 변경 (tick 에서 순서대로 반영)
+    private final Queue<Consumer<LocalDateTime>> changes = new ConcurrentLinkedQueue<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private volatile boolean stale = true;
+
+    // 이 키까지의 대기 중 할 일은 빠짐없이 인덱스에 있음 (null 이면 아직 적재 전)
+    private volatile Key loadedTo;
+
+    // tick 스레드만 사용: 알림 시각 순 대기열과 마지막으로 보낸 알림
+    // 항목이 빠지거나 마감일이 바뀐 알림은 미리 지우지 않고 꺼낼 때 버림
+    private final TreeSet<Alarm> alarms = new TreeSet<>();
+    private final Map<Long, Alarm> notified = new HashMap<>();
+    private final AtomicLong fired = new AtomicLong();
+
+    public record Entry(Long id, String title, LocalDateTime dueDate, Priority priority, Long tagId) {
+        static Entry of(TodoRepository.DueTodo row) {
+            return new Entry(row.getId(), row.getTitle(), row.getDueDate(), row.getPriority(), row.getTagId());
+        }
+
+        Key key() {
+            return new Key(dueDate, id);
+        }
+    }
+
+    record Key(LocalDateTime dueDate, long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::dueDate).thenComparingLong(Key::id);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    record Alarm(LocalDateTime at, long id, TodoReminderSink.Reminder.Type type, LocalDateTime dueDate)
+            implements Comparable<Alarm> {
+        private static final Comparator<Alarm> ORDER = Comparator.comparing(Alarm::at)
+                .thenComparingLong(Alarm::id).thenComparing(Alarm::type).thenComparing(Alarm::dueDate);
+
+        @Override
+        public int compareTo(Alarm other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.reminders.indexed", index, Map::size)
+                .description("마감 알림 인덱스에 올라온 할 일 수")
+                .register(registry);
+        FunctionCounter.builder("todo.reminders.fired", fired, AtomicLong::get)
+                .description("보낸 마감 알림 수")
+                .register(registry);
+    }
+
+    // 마감일 순 대기 중 할 일 (지난 마감은 overdue-lookback 까지, 마감이 지금 + within 전인 것, 최대 limit 개)
+    public List<Entry> due(Duration within, int limit) {
+        if (within.isNegative() || within.compareTo(horizon) > 0) {
+            throw new IllegalArgumentException("within 은 0 ~ " + horizon + " 사이여야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Key from = new Key(now.minus(overdueLookback), 0);
+        Key until = new Key(now.plus(within), 0);
+        Key loaded = loadedTo;
+        if (!enabled || loaded == null || loaded.compareTo(until) < 0) {
+            // 아직 적재 전이거나 max-entries 에 걸려 범위를 다 담지 못함 → 같은 키셋 쿼리로 DB 에서
+            return todoRepository.findDueAfter(Status.TODO, from.dueDate(), from.id(), until.dueDate(), Limit.of(limit))
+                    .stream().map(Entry::of).toList();
+        }
+        return index.subMap(from, until).values().stream().limit(limit).toList();
+    }
+
+    // 생성/수정 (커밋 후 엔티티 값으로 반영, 대기 중이 아니면 뺌)
+    public void onSaved(Todo todo) {
+        if (!enabled) return;
+        Long id = todo.getId();
+        Entry entry = todo.getStatus() == Status.TODO
+                ? new Entry(id, todo.getTitle(), todo.getDueDate(), todo.getPriority(),
+                todo.getTag() != null ? todo.getTag().getId() : null)
+                : null;
+        afterCommit(() -> changes.add(now -> {
+            if (entry != null) upsert(entry, now);
+            else remove(id);
+        }));
+    }
+
+    // 완료/삭제
+    public void onRemoved(Long id) {
+        if (!enabled) return;
+        afterCommit(() -> changes.add(now -> remove(id)));
+    }
+
+    // 엔티티 없이 바뀐 할 일 (다시 시작, 우선순위, 일괄 처리, write-behind 반영): 다음 tick 에 id 로 다시 조회
+    public void refresh(Collection<Long> ids) {
+        if (!enabled) return;
+        List<Long> copy = ids.stream().filter(Objects::nonNull).toList();
+        if (!copy.isEmpty()) afterCommit(() -> dirty.addAll(copy));
+    }
+
+    // 어떤 할 일이 바뀌었는지 모르는 쓰기 (가져오기) → 다음 tick 에 다시 적재
+    public void markStale() {
+        if (enabled) afterCommit(() -> stale = true);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.reminder.tick-ms:1000}")
+    public synchronized void tick() {
+        if (!enabled) return;
+        LocalDateTime now = LocalDateTime.now();
+        boolean reloaded = stale;
+        if (reloaded) reload(now);
+        Consumer<LocalDateTime> change;
+        while ((change = changes.poll()) != null) change.accept(now);
+        refreshDirty(now);
+        evict(now);
+        extend(now);
+        // 다시 적재한 뒤에도 없는 할 일의 알림 기록은 버림
+        if (reloaded) notified.keySet().retainAll(byId.keySet());
+        fire(now);
+    }
+
+    // 처음부터 다시 적재 (이미 보낸 알림 기록은 유지해서 같은 알림을 다시 보내지 않음)
+    // 적재 구간을 먼저 되돌려서 비우는 동안 들어온 조회는 빈 인덱스 대신 DB 에서 응답
+    private void reload(LocalDateTime now) {
+        stale = false;
+        loadedTo = new Key(now.minus(overdueLookback), 0);
+        dirty.clear();
+        index.clear();
+        byId.clear();
+        alarms.clear();
+    }
+
+    // 적재된 구간이 지금 + horizon 에 못 미치면 EXTEND_AHEAD 만큼 더 넓힘 (이미 읽은 키 다음부터, max-entries 까지)
+    private void extend(LocalDateTime now) {
+        Key from = loadedTo;
+        if (!from.dueDate().isBefore(now.plus(horizon))) return;
+        LocalDateTime to = now.plus(horizon).plus(EXTEND_AHEAD);
+        while (from.dueDate().isBefore(to) && index.size() < maxEntries) {
+            int limit = Math.min(LOAD_CHUNK, maxEntries - index.size());
+            List<TodoRepository.DueTodo> rows = todoRepository.findDueAfter(
+                    Status.TODO, from.dueDate(), from.id(), to, Limit.of(limit));
+            for (TodoRepository.DueTodo row : rows) put(Entry.of(row), now);
+            if (rows.size() < limit) {
+                from = new Key(to, 0);
+                break;
+            }
+            TodoRepository.DueTodo last = rows.get(rows.size() - 1);
+            from = new Key(last.getDueDate(), last.getId());
+        }
+        loadedTo = from;
+    }
+
+    private void refreshDirty(LocalDateTime now) {
+        if (dirty.isEmpty()) return;
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK, ids.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            for (TodoRepository.DueTodo row : todoRepository.findDueByIdIn(chunk, Status.TODO)) {
+                missing.remove(row.getId());
+                upsert(Entry.of(row), now);
+            }
+            // 없어졌거나 대기 중이 아님
+            missing.forEach(this::remove);
+        }
+    }
+
+    // lookback 보다 오래 지난 마감은 인덱스에서 뺌
+    private void evict(LocalDateTime now) {
+        Map<Key, Entry> expired = index.headMap(new Key(now.minus(overdueLookback), 0));
+        for (Entry entry : expired.values()) {
+            byId.remove(entry.id());
+            notified.remove(entry.id());
+        }
+        expired.clear();
+    }
+
+    // 적재된 구간 안이면 넣고, 밖이면 뺌 (구간 밖은 창이 넓어질 때 읽음)
+    private void upsert(Entry entry, LocalDateTime now) {
+        Key loaded = loadedTo;
+        if (loaded == null || entry.key().compareTo(loaded) > 0
+                || entry.dueDate().isBefore(now.minus(overdueLookback))) {
+            remove(entry.id());
+            return;
+        }
+        put(entry, now);
+    }
+
+    private void put(Entry entry, LocalDateTime now) {
+        Entry before = byId.put(entry.id(), entry);
+        if (before != null && !before.key().equals(entry.key())) index.remove(before.key());
+        index.put(entry.key(), entry);
+        if (before == null || !before.dueDate().equals(entry.dueDate())) schedule(entry, now);
+    }
+
+    private void remove(Long id) {
+        Entry entry = byId.remove(id);
+        if (entry != null) index.remove(entry.key());
+        notified.remove(id);
+    }
+
+    // 마감 lead 전에 UPCOMING, 마감에 OVERDUE (이미 지난 시각이면 이번 tick 에 나감)
+    private void schedule(Entry entry, LocalDateTime now) {
+        if (entry.dueDate().isAfter(now)) {
+            alarms.add(new Alarm(entry.dueDate().minus(lead), entry.id(), TodoReminderSink.Reminder.Type.UPCOMING,
+                    entry.dueDate()));
+        }
+        alarms.add(new Alarm(entry.dueDate(), entry.id(), TodoReminderSink.Reminder.Type.OVERDUE, entry.dueDate()));
+    }
+
+    private void fire(LocalDateTime now) {
+        while (!alarms.isEmpty() && !alarms.first().at().isAfter(now)) {
+            Alarm alarm = alarms.pollFirst();
+            Entry entry = byId.get(alarm.id());
+            // 빠졌거나 마감일이 바뀐 할 일의 알림
+            if (entry == null || !entry.dueDate().equals(alarm.dueDate())) continue;
+            // 같은 마감일로 이미 이 단계(또는 그 이후) 알림을 보냄
+            Alarm last = notified.get(alarm.id());
+            if (last != null && last.dueDate().equals(alarm.dueDate()) && last.type().compareTo(alarm.type()) >= 0) {
+                continue;
+            }
+            // 늦게 들어와 UPCOMING 시각에 이미 마감이 지났으면 OVERDUE 만
+            if (alarm.type() == TodoReminderSink.Reminder.Type.UPCOMING && !entry.dueDate().isAfter(now)) continue;
+
+            notified.put(alarm.id(), alarm);
+            send(new TodoReminderSink.Reminder(alarm.type(), entry.id(), entry.title(), entry.dueDate(),
+                    entry.priority(), entry.tagId(), now));
+        }
+    }
+
+    private void send(TodoReminderSink.Reminder reminder) {
+        fired.incrementAndGet();
+        sinks.orderedStream().forEach(sink -> {
+            try {
+                sink.remind(reminder);
+            } catch (RuntimeException e) {
+                log.warn("마감 알림 전달 실패 ({}): {}", sink.getClass().getSimpleName(), e.getMessage());
+            }
+        });
+    }
+
+    // 트랜잭션이 커밋된 경우에만 반영
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
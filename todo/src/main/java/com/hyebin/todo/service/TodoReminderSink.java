@@ -0,0 +1,23 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.enums.Priority;
+
+import java.time.LocalDateTime;
+
+// 마감 알림을 받는 쪽 (빈으로 등록된 모든 sink 에 전달, 기본은 LoggingReminderSink)
+// TodoReminderService 의 tick 스레드에서 호출되므로 오래 걸리는 전송은 sink 안에서 비동기로 처리
+public interface TodoReminderSink {
+
+    void remind(Reminder reminder);
+
+    record Reminder(Type type, Long todoId, String title, LocalDateTime dueDate, Priority priority, Long tagId,
+                    LocalDateTime at) {
+
+        public enum Type {
+            // 마감 lead 전
+            UPCOMING,
+            // 마감이 지남
+            OVERDUE
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.repository.TodoSpecs;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+// 제목/내용 전문 검색 (관련도 순 + 하이라이트)
+// - MySQL 은 todo(title, content) FULLTEXT(ngram) 인덱스로 검색하므로 데이터가 늘어도 LIKE 처럼 전체를 읽지 않음
+// - 인덱스는 InnoDB 가 같은 트랜잭션에서 갱신하므로 TodoService 쓰기와 별도로 동기화할 필요 없음
+@Service
+@Transactional(readOnly = true)
+public class TodoSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // 관련도 순 결과는 offset 으로 넘기므로 깊은 페이지는 막음
+    public static final int MAX_PAGE = 50;
+    private static final int SNIPPET_LENGTH = 120;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    public Result search(String keyword, int page, int size) {
+        String query = TodoSpecs.fullTextQuery(keyword);
+        if (query == null) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (page < 0 || page > MAX_PAGE) {
+            throw new IllegalArgumentException("page 는 0 ~ " + MAX_PAGE + " 사이여야 합니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Slice<Object[]> rows = todoRepository.searchFullText(query, PageRequest.of(page, pageSize));
+        String term = keyword.replace("\"", " ").trim();
+        List<Hit> hits = rows.getContent().stream()
+                .map(row -> toHit((Todo) row[0], ((Number) row[1]).doubleValue(), term))
+                .toList();
+        return new Result(hits, page, pageSize, rows.hasNext() && page < MAX_PAGE);
+    }
+
+    private Hit toHit(Todo todo, double score, String term) {
+        return new Hit(todo, score, highlight(todo.getTitle(), term), snippet(todo.getContent(), term));
+    }
+
+    // 검색어 위치를 <em> 으로 감싸고 나머지는 HTML 이스케이프
+    static String highlight(String text, String term) {
+        if (text == null) return null;
+        StringBuilder sb = new StringBuilder();
+        int from = 0;
+        int at;
+        while (!term.isEmpty() && (at = indexOfIgnoreCase(text, term, from)) >= 0) {
+            sb.append(HtmlUtils.htmlEscape(text.substring(from, at)))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(text.substring(at, at + term.length())))
+                    .append("</em>");
+            from = at + term.length();
+        }
+        return sb.append(HtmlUtils.htmlEscape(text.substring(from))).toString();
+    }
+
+    // 내용 중 첫 일치 위치 주변만 잘라서 하이라이트
+    static String snippet(String content, String term) {
+        if (content == null || content.isEmpty()) return null;
+        int at = term.isEmpty() ? -1 : indexOfIgnoreCase(content, term, 0);
+        int start = at < 0 ? 0 : Math.max(0, at - SNIPPET_LENGTH / 2);
+        int end = Math.min(content.length(), start + SNIPPET_LENGTH);
+        String cut = highlight(content.substring(start, end), term);
+        return (start > 0 ? "…" : "") + cut + (end < content.length() ? "…" : "");
+    }
+
+    // 대소문자 무시 검색을 원문 위에서 (toLowerCase 는 İ 처럼 길이가 바뀌는 문자가 있어 위치가 어긋남)
+    private static int indexOfIgnoreCase(String text, String term, int from) {
+        for (int i = from; i <= text.length() - term.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) return i;
+        }
+        return -1;
+    }
+
+    public record Hit(Todo todo, double score, String titleHighlight, String contentSnippet) {}
+
+    public record Result(List<Hit> hits, int page, int size, boolean hasNext) {}
+}
@@ -1,147 +1,354 @@
 package com.hyebin.todo.service;
 
+import com.hyebin.todo.domain.entity.Tag;
 import com.hyebin.todo.domain.entity.Todo;
 import com.hyebin.todo.domain.enums.Priority;
 import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoBatchRequestDto;
+import com.hyebin.todo.dto.TodoRequestDto;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.dto.TodoSearchCondition;
 import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.repository.TodoSpecs;
+import com.hyebin.todo.repository.TodoTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed("todo.service") // 메서드별 타이머 (class, method, exception 태그)
 public class TodoService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    // IN 절 하나에 담을 최대 id 수
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
     @Autowired
     private TodoRepository todoRepository;
 
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private TodoStatsService todoStatsService;
+
+    @Autowired
+    private TodoChangeBus todoChangeBus;
+
+    @Autowired
+    private TodoWriteQueue todoWriteQueue;
+
+    @Autowired
+    private TodoReminderService todoReminderService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     // 할 일 등록
     public Todo createTodo(Todo todo) {
         if (todo.getDueDate() == null) {
             todo.setDueDate(LocalDateTime.now());
         }
-        return todoRepository.save(todo);
-    }
-
-    // 모든 할 일 조회
-    public List<Todo> getAllTodos() {
-        return todoRepository.findAll();
+        Todo saved = todoRepository.save(todo);
+        todoStatsService.onCreated(saved);
+        todoReminderService.onSaved(saved);
+        todoChangeBus.publish(TodoChangeEvent.of(TodoChangeEvent.Type.CREATED, saved));
+        return saved;
     }
 
     // ID로 할 일 조회
+    @Transactional(readOnly = true)
     public Todo getTodoById(Long id) {
         return todoRepository.findById(id).orElse(null);
     }
 
+    // 할 일이 있는지 (write-behind 로 받기 전 확인용, 2차 캐시에 있으면 SQL 없음)
+    // 읽기 전용으로 두지 않음: 방금 만든 할 일이 복제본에 아직 없어 404 가 나지 않도록 primary 에서
+    public boolean existsTodo(Long id) {
+        return todoRepository.findById(id).isPresent();
+    }
+
     // 할 일 수정
     public Todo updateTodo(Long id, Todo updatedTodo) {
+        return updateTodo(id, updatedTodo, null);
+    }
+
+    // expectedVersion 이 주어지면 현재 버전과 같을 때만 수정, 다르면 ObjectOptimisticLockingFailureException
+    // 읽은 뒤 다른 트랜잭션이 먼저 커밋해도 UPDATE ... WHERE version = ? 에서 같은 예외
+    public Todo updateTodo(Long id, Todo updatedTodo, Long expectedVersion) {
+        // 상태/우선순위도 요청 값으로 덮어쓰므로 write-behind 큐에 남은 값은 버림
+        todoWriteQueue.discard(id);
         return todoRepository.findById(id)
                 .map(todo -> {
+                    checkVersion(id, expectedVersion, todo.getVersion());
+                    TodoStatsService.Key before = TodoStatsService.Key.of(todo);
                     todo.setTitle(updatedTodo.getTitle());
                     todo.setContent(updatedTodo.getContent());
                     todo.setDueDate(updatedTodo.getDueDate());
                     todo.setStatus(updatedTodo.getStatus());
                     todo.setPriority(updatedTodo.getPriority());
                     todo.setTag(updatedTodo.getTag());
-                    return todoRepository.save(todo);
+                    todoStatsService.onChanged(before, TodoStatsService.Key.of(todo));
+                    Todo saved = todoRepository.save(todo);
+                    todoReminderService.onSaved(saved);
+                    todoChangeBus.publish(TodoChangeEvent.updated(saved, before.tagId(), before.status()));
+                    return saved;
                 })
                 .orElse(null);
     }
 
-    // 할 일 삭제
+    // 할 일 삭제 (DELETE 한 번 + 증분 동기화용 tombstone, 없으면 false)
+    // 삭제 전 값을 읽지 않으므로 통계는 stale 로 표시하고 스케줄러가 다시 집계
     public boolean deleteTodo(Long id) {
-        if (todoRepository.existsById(id)) {
-            todoRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        todoWriteQueue.discard(id);
+        if (todoRepository.deleteTodoById(id) == 0) return false;
+        todoStatsService.markStale();
+        todoTombstoneRepository.insertTombstone(id, LocalDateTime.now());
+        todoReminderService.onRemoved(id);
+        todoChangeBus.publish(TodoChangeEvent.todo(TodoChangeEvent.Type.DELETED, id, null, null));
+        return true;
     }
 
+    // 단건 변경 결과 (UNCHANGED: 이미 그 상태라 바꿀 것이 없음)
+    public enum Change { CHANGED, UNCHANGED, NOT_FOUND }
+
     // 할 일 완료 처리
-    public Todo completeTodo(Long id) {
-        return changeStatus(id, Status.DONE);
+    public Change completeTodo(Long id) {
+        return completeTodo(id, null);
+    }
+
+    public Change completeTodo(Long id, Long expectedVersion) {
+        return changeStatus(id, Status.TODO, Status.DONE, expectedVersion);
     }
 
     // 할 일 다시 시작 (완료 → 대기)
-    public Todo restartTodo(Long id) {
-        return changeStatus(id, Status.TODO);
+    public Change restartTodo(Long id) {
+        return restartTodo(id, null);
     }
 
-    private Todo changeStatus(Long id, Status status) {
-        return todoRepository.findById(id)
-                .map(todo -> {
-                    todo.setStatus(status);
-                    return todoRepository.save(todo);
-                })
-                .orElse(null);
+    public Change restartTodo(Long id, Long expectedVersion) {
+        return changeStatus(id, Status.DONE, Status.TODO, expectedVersion);
     }
 
-    // 우선순위 변경
-    public Todo changePriority(Long id, Priority priority) {
-        return todoRepository.findById(id)
-                .map(todo -> {
-                    todo.setPriority(priority);
-                    return todoRepository.save(todo);
-                })
-                .orElse(null);
+    // 상태 컬럼만 바꾸는 UPDATE 한 번 (엔티티를 읽지 않고, 통계는 from → to 증감분으로 바로 반영)
+    // 이미 바뀐 상태거나 버전이 다르거나 없으면 0건이므로, 그때만 버전을 조회해 구분
+    private Change changeStatus(Long id, Status from, Status to, Long expectedVersion) {
+        todoWriteQueue.discardStatus(id);
+        if (todoRepository.updateStatus(id, from, to, LocalDateTime.now(), expectedVersion) == 1) {
+            todoStatsService.onStatusChanged(from, to);
+            if (to == Status.DONE) todoReminderService.onRemoved(id);
+            else todoReminderService.refresh(List.of(id));
+            todoChangeBus.publish(TodoChangeEvent.statusChanged(id, to));
+            return Change.CHANGED;
+        }
+        Long current = todoRepository.findVersionById(id).orElse(null);
+        if (current == null) return Change.NOT_FOUND;
+        checkVersion(id, expectedVersion, current);
+        return Change.UNCHANGED;
     }
 
-    // 완료된 할 일들만 조회
-    public List<Todo> getDoneTodos() {
-        return todoRepository.findByStatus(Status.DONE);
+    // 우선순위 변경
+    public Change changePriority(Long id, Priority priority) {
+        return changePriority(id, priority, null);
     }
 
-    // 대기중인 할 일들만 조회
-    public List<Todo> getTodoTodos() {
-        return todoRepository.findByStatus(Status.TODO);
+    // 우선순위 컬럼만 바꾸는 UPDATE 한 번 (변경 전 우선순위를 읽지 않으므로 통계는 스케줄러가 다시 집계)
+    // If-Match 가 있는데 0건이면 그때만 버전을 조회해 없는 것과 충돌을 구분
+    public Change changePriority(Long id, Priority priority, Long expectedVersion) {
+        todoWriteQueue.discardPriority(id);
+        if (todoRepository.updatePriority(id, priority, LocalDateTime.now(), expectedVersion) == 0) {
+            if (expectedVersion != null && todoRepository.findVersionById(id).isPresent()) {
+                throw new ObjectOptimisticLockingFailureException(Todo.class, id);
+            }
+            return Change.NOT_FOUND;
+        }
+        todoStatsService.markStale();
+        todoReminderService.refresh(List.of(id));
+        todoChangeBus.publish(TodoChangeEvent.todo(TodoChangeEvent.Type.PRIORITY_CHANGED, id, null, priority));
+        return Change.CHANGED;
     }
 
-    // 제목으로 검색
-    public List<Todo> searchTodosByTitle(String keyword) {
-        return todoRepository.findByTitleContaining(keyword);
+    private static void checkVersion(Long id, Long expected, Long current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new ObjectOptimisticLockingFailureException(Todo.class, id);
+        }
     }
 
-    // 태그별 할 일
-    public List<Todo> getTodosByTag(Long tagId) {
-        return todoRepository.findByTag_Id(tagId);
+    // ===== 일괄 처리 =====
+    // 하나의 트랜잭션에서 생성은 JDBC 배치 INSERT, 상태/우선순위 변경과 삭제는 id IN (...) 단위 쿼리로 처리
+    public BatchResult applyBatch(TodoBatchRequestDto batch) {
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 작업은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        // 태그는 캐시에서 한 번에 조회
+        Set<Long> tagIds = batch.getCreate().stream().map(TodoRequestDto::getTagId).collect(Collectors.toSet());
+        Map<Long, Tag> tags = tagCache.findAllById(tagIds);
+
+        List<Todo> creates = new ArrayList<>();
+        for (TodoRequestDto dto : batch.getCreate()) {
+            Tag tag = tags.get(dto.getTagId());
+            if (tag == null) throw new IllegalArgumentException("존재하지 않는 태그: " + dto.getTagId());
+
+            Todo todo = new Todo(dto.getTitle(), dto.getContent(),
+                    dto.getDueDate() != null ? dto.getDueDate() : LocalDateTime.now(), tag);
+            if (dto.getStatus() != null) todo.setStatus(dto.getStatus());
+            if (dto.getPriority() != null) todo.setPriority(dto.getPriority());
+            creates.add(todo);
+        }
+        List<Todo> created = todoRepository.saveAll(creates);
+
+        batch.getPriority().values().forEach(ids -> ids.forEach(todoWriteQueue::discardPriority));
+        batch.getComplete().forEach(todoWriteQueue::discardStatus);
+        batch.getRestart().forEach(todoWriteQueue::discardStatus);
+        batch.getDelete().forEach(todoWriteQueue::discard);
+
+        LocalDateTime now = LocalDateTime.now();
+        int priorityChanged = 0;
+        for (Map.Entry<Priority, List<Long>> entry : batch.getPriority().entrySet()) {
+            priorityChanged += inChunks(entry.getValue(),
+                    ids -> todoRepository.updatePriorityByIdIn(ids, entry.getKey(), now));
+        }
+        int completed = inChunks(batch.getComplete(), ids -> todoRepository.updateStatusByIdIn(ids, Status.DONE, now));
+        int restarted = inChunks(batch.getRestart(), ids -> todoRepository.updateStatusByIdIn(ids, Status.TODO, now));
+        int deleted = inChunks(batch.getDelete(), ids -> {
+            // 실제로 있는 할 일만 tombstone 으로 남긴 뒤 삭제
+            todoTombstoneRepository.insertTombstonesFor(ids, now);
+            return todoRepository.deleteByIdIn(ids);
+        });
+
+        todoStatsService.markStale();
+        created.forEach(todoReminderService::onSaved);
+        batch.getPriority().values().forEach(todoReminderService::refresh);
+        todoReminderService.refresh(batch.getComplete());
+        todoReminderService.refresh(batch.getRestart());
+        todoReminderService.refresh(batch.getDelete());
+        todoChangeBus.publish(TodoChangeEvent.of(TodoChangeEvent.Type.BULK_CHANGED));
+        return new BatchResult(created, completed, restarted, priorityChanged, deleted);
     }
 
-    // 상태별 할 일
-    public List<Todo> getTodosByStatus(Status status) {
-        return todoRepository.findByStatus(status);
+    private int inChunks(List<Long> ids, ToIntFunction<List<Long>> action) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        int affected = 0;
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK) {
+            affected += action.applyAsInt(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK, distinct.size())));
+        }
+        return affected;
     }
 
-    // 우선순위별 할 일
-    public List<Todo> getTodosByPriority(Priority priority) {
-        return todoRepository.findByPriority(priority);
+    public record BatchResult(List<Todo> created, int completed, int restarted, int priorityChanged, int deleted) {}
+
+    // ===== write-behind 큐 반영 =====
+    // 대기 중인 변경을 값별로 묶어 id IN (...) UPDATE (상태 2가지 + 우선순위 3가지, 최대 5개 쿼리 + IN 절 나눔)
+    // now 를 스냅샷보다 먼저 정하므로, 스냅샷 뒤에 동기 경로로 바뀐 행(updatedAt > now)은 덮어쓰지 않음
+    // 커밋된 뒤에 큐에서 지우므로, 반영 중 실패하거나 종료되면 저널에 남아 다음 차례(또는 재시작 후)에 다시 반영
+    // 주기 호출은 TodoWriteQueueFlusher (큐가 비어 있으면 이 메서드를 부르지 않음)
+    public int flushWriteQueue() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Long, TodoWriteQueue.Pending> queued = todoWriteQueue.snapshot();
+        if (queued.isEmpty()) return 0;
+
+        Map<Status, List<Long>> byStatus = new EnumMap<>(Status.class);
+        Map<Priority, List<Long>> byPriority = new EnumMap<>(Priority.class);
+        queued.forEach((id, pending) -> {
+            if (pending.status() != null) byStatus.computeIfAbsent(pending.status(), k -> new ArrayList<>()).add(id);
+            if (pending.priority() != null) byPriority.computeIfAbsent(pending.priority(), k -> new ArrayList<>()).add(id);
+        });
+        int updated = 0;
+        for (Map.Entry<Status, List<Long>> entry : byStatus.entrySet()) {
+            updated += inChunks(entry.getValue(), ids -> todoRepository.updateQueuedStatus(ids, entry.getKey(), now));
+        }
+        for (Map.Entry<Priority, List<Long>> entry : byPriority.entrySet()) {
+            updated += inChunks(entry.getValue(), ids -> todoRepository.updateQueuedPriority(ids, entry.getKey(), now));
+        }
+
+        if (updated > 0) {
+            todoStatsService.markStale();
+            todoReminderService.refresh(queued.keySet());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                todoWriteQueue.flushed(queued);
+            }
+        });
+        return updated;
     }
 
-    // 생성일 순으로 정렬
-    public List<Todo> getTodosByCreatedDate() {
-        return todoRepository.findAllByOrderByCreatedAtDesc();
+    // ===== 커서 페이지 조회 =====
+    // 정렬키 + id 키셋으로 다음 페이지를 찾으므로 깊은 페이지도 첫 페이지와 같은 비용
+
+    // 조건 검색: 상태/우선순위/태그/마감일 범위/제목을 하나의 쿼리로 조합해 엔티티 대신 TodoResponseDto 로 바로 조회
+    // 관리 엔티티, 지연 로딩 프록시, 더티 체킹 스냅샷을 만들지 않고 태그 이름/색은 같은 쿼리에서 조인
+    // withContent 가 false 면 TEXT content 를 읽지 않음
+    @Transactional(readOnly = true)
+    public Window<TodoResponseDto> listTodos(TodoSearchCondition condition, TodoSort sort, String cursor, int size,
+                                             boolean withContent) {
+        KeysetScrollPosition position = (KeysetScrollPosition) TodoCursor.decode(sort, cursor);
+        return todoRepository.findListPage(TodoSpecs.matches(condition), sort.toSort(), position, pageSize(size),
+                withContent);
     }
 
-    // 마감일 순으로 정렬
-    public List<Todo> getTodosByDueDate() {
-        return todoRepository.findAllByOrderByDueDateAsc();
+    // 목록 ETag 용 데이터 버전 (목록과 같은 DB 에서 읽으므로 복제본이 뒤처져 있으면 그 복제본의 값)
+    // 할 일 생성/수정/상태 변경은 updatedAt, 삭제는 tombstone, 태그 이름/색 변경은 태그 버전으로 바뀜
+    // updatedAt 은 커밋이 아니라 쓰기 시점의 시각이므로, 더 늦게 시작한 쓰기가 먼저 커밋된 뒤 커밋된 쓰기는
+    // 다음 변경까지 같은 버전으로 보일 수 있음 (쓰기 트랜잭션 길이만큼의 틈)
+    @Transactional(readOnly = true)
+    public String listVersion() {
+        TodoRepository.ListVersion version = todoRepository.findListVersion();
+        return Long.toHexString(micros(version.getTodoUpdatedAt())) + "." + Long.toHexString(micros(version.getDeletedAt()))
+                + "." + version.getTagCount() + "." + version.getTagVersion();
     }
 
-    // 전체 할 일 개수
-    public long getTotalCount() {
-        return todoRepository.count();
+    private static long micros(LocalDateTime at) {
+        return at != null ? ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), at) : 0;
     }
 
-    // 완료된 할 일 개수
-    public long getDoneCount() {
-        return todoRepository.countByStatus(Status.DONE);
+    // ===== 전체 내보내기 =====
+    // 한 번에 fetch size 만큼만 읽고, 처리한 할 일은 영속성 컨텍스트에서 바로 분리해 행 수와 관계없이 메모리 일정
+    @Transactional(readOnly = true)
+    public long exportTodos(Consumer<Todo> consumer) {
+        long count = 0;
+        try (Stream<Todo> todos = todoRepository.streamAllOrderById()) {
+            for (Todo todo : (Iterable<Todo>) todos::iterator) {
+                consumer.accept(todo);
+                entityManager.detach(todo);
+                count++;
+            }
+        }
+        return count;
     }
 
-    // 대기중인 할 일 개수
-    public long getTodoCount() {
-        return todoRepository.countByStatus(Status.TODO);
+    // 페이지 크기는 1 ~ MAX_PAGE_SIZE 로 제한
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 }
\ No newline at end of file
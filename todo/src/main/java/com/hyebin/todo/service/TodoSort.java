@@ -0,0 +1,34 @@
+package com.hyebin.todo.service;
+
+import org.springframework.data.domain.Sort;
+
+// 목록 정렬 기준 (id 를 마지막 키로 두어 커서가 항상 한 행을 가리키도록 함)
+public enum TodoSort {
+    ID(null, Sort.Direction.ASC),
+    CREATED("createdAt", Sort.Direction.DESC),
+    DUE_DATE("dueDate", Sort.Direction.ASC);
+
+    private final String property;
+    private final Sort.Direction direction;
+
+    TodoSort(String property, Sort.Direction direction) {
+        this.property = property;
+        this.direction = direction;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort toSort() {
+        Sort byId = Sort.by(direction, "id");
+        return property == null ? byId : Sort.by(direction, property).and(byId);
+    }
+
+    // 요청 파라미터 → 정렬 기준 (알 수 없는 값은 기본 정렬)
+    public static TodoSort from(String sort) {
+        if ("dueDate".equalsIgnoreCase(sort)) return DUE_DATE;
+        if ("created".equalsIgnoreCase(sort)) return CREATED;
+        return ID;
+    }
+}
@@ -0,0 +1,209 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+// 할 일 통계 스냅샷
+// - 메모리의 전체/상태별/우선순위별/태그별 개수로 통계를 응답하므로 조회 시 DB 를 거치지 않음
+// - 스냅샷은 바뀌지 않는 값 하나(Stats)로 두고 증감분마다 새 값으로 통째로 바꿔 끼움
+//   → 조회는 항상 같은 시점의 값 (total == 상태별 합)
+// - TodoService 의 쓰기가 커밋된 뒤 증감분을 반영 (생성/수정은 엔티티 값으로, 완료/다시 시작은 상태만)
+// - 증감분을 알 수 없는 쓰기(단건 삭제/우선순위 변경, 일괄 처리, 가져오기, write-behind 반영)는 스냅샷을 stale 로 표시하고 스케줄러 스레드가 곧 다시 집계
+//   그동안 조회는 마지막 스냅샷으로 응답 (요청 스레드에서 집계하는 것은 처음 적재 한 번뿐)
+// - 주기적으로 GROUP BY 집계 한 번으로 DB 와 다시 맞춤
+// - 스냅샷을 바꿔 끼울 때마다(증감분 반영, 재집계) 버전을 1씩 올림 → 통계 ETag (값의 해시처럼 충돌하지 않음)
+@Service
+public class TodoStatsService {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    // 스냅샷 교체와 재집계 중 증감분 기록은 이 잠금으로 (DB 집계는 잠금 밖에서)
+    private final Object lock = new Object();
+    // 재시작 후 같은 버전이 나오지 않도록 인스턴스마다 임의의 접두사
+    private final String instance = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private long version;
+    private volatile Stats stats = new Counts().toStats(0);
+    private volatile boolean stale = true;
+    private volatile boolean loaded;
+    // 재집계 중 반영된 증감분 (집계 결과에 다시 적용), 재집계 중이 아니면 null
+    private List<Consumer<Counts>> replay;
+
+    // 현재 스냅샷 기준 통계 (stale 이어도 DB 를 거치지 않고 마지막 스냅샷)
+    public Stats getStats() {
+        if (!loaded) load();
+        return stats;
+    }
+
+    // 처음 한 번은 빈 스냅샷 대신 요청 스레드에서 집계
+    private synchronized void load() {
+        if (!loaded) reconcile();
+    }
+
+    // stale 로 표시된 스냅샷을 조회와 상관없이 다시 집계
+    @Scheduled(fixedDelayString = "${todo.stats.stale-check-ms:500}")
+    public void reconcileIfStale() {
+        if (stale) reconcile();
+    }
+
+    // 스냅샷 버전 태그 (ETag 용, 같은 인스턴스에서 바꿔 끼울 때마다 달라짐)
+    public String versionTag(Stats stats) {
+        return instance + "-" + stats.version();
+    }
+
+    // DB 집계로 스냅샷 재구성
+    // 집계가 도는 동안 커밋된 쓰기는 집계 결과에 빠져 있을 수 있으므로 그 증감분을 결과 위에 다시 적용
+    // (집계 직전에 커밋됐지만 증감분이 집계 시작 뒤에 들어온 경우만 두 번 세어지고 다음 재집계에서 맞춰짐)
+    @Scheduled(fixedDelayString = "${todo.stats.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        synchronized (lock) {
+            // 집계 중 들어온 stale 표시도 다음 재집계에서 맞춰지도록 먼저 플래그를 내림
+            stale = false;
+            replay = new ArrayList<>();
+        }
+        Counts fresh = new Counts();
+        try {
+            for (TodoRepository.GroupCount row : todoRepository.countGroupByStatusAndPriorityAndTag()) {
+                fresh.add(new Key(row.getStatus(), row.getPriority(), row.getTagId()), row.getCount());
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                replay = null;
+                stale = true;
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            replay.forEach(delta -> delta.accept(fresh));
+            replay = null;
+            stats = fresh.toStats(++version);
+        }
+        loaded = true;
+    }
+
+    // 할 일 생성
+    public void onCreated(Todo todo) {
+        Key key = Key.of(todo);
+        afterCommit(counts -> counts.add(key, 1));
+    }
+
+    // 상태/우선순위/태그 변경 (before 는 변경 전, after 는 변경 후 값으로 만든 키)
+    public void onChanged(Key before, Key after) {
+        if (before.equals(after)) return;
+        afterCommit(counts -> {
+            counts.add(before, -1);
+            counts.add(after, 1);
+        });
+    }
+
+    // 상태만 from → to 로 바뀐 경우 (나머지 차원은 그대로)
+    public void onStatusChanged(Status from, Status to) {
+        afterCommit(counts -> {
+            counts.addStatus(from, -1);
+            counts.addStatus(to, 1);
+        });
+    }
+
+    // 변경 전 값을 모르는 쓰기 → 스케줄러가 다시 집계
+    public void markStale() {
+        runAfterCommit(() -> stale = true);
+    }
+
+    // 트랜잭션이 커밋된 경우에만 반영 (롤백 시 스냅샷이 어긋나지 않도록)
+    private void afterCommit(Consumer<Counts> delta) {
+        runAfterCommit(() -> apply(delta));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void apply(Consumer<Counts> delta) {
+        synchronized (lock) {
+            Counts counts = new Counts(stats);
+            delta.accept(counts);
+            stats = counts.toStats(++version);
+            if (replay != null) replay.add(delta);
+        }
+    }
+
+    // 스냅샷을 만들 때만 쓰는 가변 집계
+    private static final class Counts {
+        private long total;
+        private final Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        private final Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        private final Map<Long, Long> byTag = new HashMap<>();
+
+        Counts() {
+        }
+
+        Counts(Stats stats) {
+            total = stats.total();
+            byStatus.putAll(stats.byStatus());
+            byPriority.putAll(stats.byPriority());
+            byTag.putAll(stats.byTag());
+        }
+
+        void add(Key key, long delta) {
+            total += delta;
+            if (key.status() != null) merge(byStatus, key.status(), delta);
+            if (key.priority() != null) merge(byPriority, key.priority(), delta);
+            if (key.tagId() != null) merge(byTag, key.tagId(), delta);
+        }
+
+        void addStatus(Status status, long delta) {
+            merge(byStatus, status, delta);
+        }
+
+        private static <K> void merge(Map<K, Long> counts, K key, long delta) {
+            counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        Stats toStats(long version) {
+            return new Stats(total, Map.copyOf(byStatus), Map.copyOf(byPriority), Map.copyOf(byTag), version);
+        }
+    }
+
+    // status 컬럼은 null 을 허용하므로 null 은 대기(TODO)로 셈 (상태 변경 UPDATE 와 같은 기준)
+    public record Key(Status status, Priority priority, Long tagId) {
+        public Key {
+            if (status == null) status = Status.TODO;
+        }
+
+        public static Key of(Todo todo) {
+            return new Key(todo.getStatus(), todo.getPriority(), todo.getTag() != null ? todo.getTag().getId() : null);
+        }
+    }
+
+    // version 은 스냅샷 버전 (DB 에서 바로 집계한 값은 0)
+    public record Stats(long total, Map<Status, Long> byStatus, Map<Priority, Long> byPriority, Map<Long, Long> byTag,
+                        long version) {
+        public long count(Status status) {
+            return byStatus.getOrDefault(status, 0L);
+        }
+    }
+}
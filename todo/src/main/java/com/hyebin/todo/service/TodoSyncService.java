@@ -0,0 +1,99 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.config.ReplicaRoutingDataSource;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.entity.TodoTombstone;
+import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.repository.TodoTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// 증분 동기화 (GET /api/todos/sync)
+// - 토큰의 (updatedAt, id) 워터마크 이후 바뀐 할 일과 (deletedAt, todoId) 이후 삭제된 id 만 응답
+// - 두 조회 모두 (시각, id) 인덱스 키셋이라 변경이 없으면 테이블마다 인덱스 탐색 한 번
+// - 상한은 진행 중인 가장 오래된 쓰기 트랜잭션의 시작 시각 (TodoWriteWatermark)
+//   커밋이 늦어진 트랜잭션의 updatedAt 이 워터마크 뒤로 밀려 누락되지 않도록, 커밋이 얼마나 걸리든 그 트랜잭션이 끝날 때까지 상한을 묶어 둠
+// - safety-lag 는 이 인스턴스를 거치지 않는 쓰기(다른 인스턴스, 직접 SQL)를 위한 추가 여유 (기본 0)
+// - tombstone 은 보존 기간이 지나면 지우고, 그보다 오래된 토큰은 reset 으로 전체 동기화
+// - 복제본에 아직 오지 않은 변경이 워터마크 뒤로 밀려 누락되지 않도록 primary 에서 읽음
+//   쓰기 트랜잭션이 아니라 읽기 전용 트랜잭션을 primary 로 보내므로, 동시에 도는 동기화가 서로의 상한을 묶지 않음
+@Service
+public class TodoSyncService {
+
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // 처음 동기화의 시작 워터마크
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private TodoWriteWatermark todoWriteWatermark;
+
+    @Value("${todo.sync.safety-lag:0s}")
+    private Duration safetyLag;
+
+    @Value("${todo.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Transactional(readOnly = true)
+    public Result sync(String since, int size) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> read(since, size));
+    }
+
+    private Result read(String since, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // DB 는 마이크로초까지 저장하므로 상한도 마이크로초 단위로 맞춤 (다음 토큰과 틈이 생기지 않도록)
+        LocalDateTime upper = todoWriteWatermark.committedBefore().minus(safetyLag).truncatedTo(ChronoUnit.MICROS);
+
+        TodoSyncToken token = TodoSyncToken.decode(since);
+        boolean reset = token != null && token.deletedAt().isBefore(upper.minus(tombstoneRetention));
+        if (token == null || reset) {
+            // 처음(또는 다시) 동기화: 할 일 전체, 삭제 목록은 필요 없음
+            token = new TodoSyncToken(EPOCH, 0, upper, 0);
+        }
+
+        List<Todo> todos = todoRepository.findChangedSince(
+                token.todoAt(), token.todoId(), upper, Limit.of(pageSize + 1));
+        boolean moreTodos = todos.size() > pageSize;
+        if (moreTodos) todos = todos.subList(0, pageSize);
+
+        List<TodoTombstone> tombstones = todoTombstoneRepository.findChangedSince(
+                token.deletedAt(), token.deletedId(), upper, Limit.of(pageSize + 1));
+        boolean moreDeleted = tombstones.size() > pageSize;
+        if (moreDeleted) tombstones = tombstones.subList(0, pageSize);
+
+        // 남은 행이 없으면 워터마크를 상한까지 당김 (다음 동기화는 upper 이후만 보면 됨)
+        Todo lastTodo = moreTodos ? todos.get(todos.size() - 1) : null;
+        TodoTombstone lastDeleted = moreDeleted ? tombstones.get(tombstones.size() - 1) : null;
+        TodoSyncToken next = new TodoSyncToken(
+                lastTodo != null ? lastTodo.getUpdatedAt() : upper, lastTodo != null ? lastTodo.getId() : 0,
+                lastDeleted != null ? lastDeleted.getDeletedAt() : upper, lastDeleted != null ? lastDeleted.getTodoId() : 0);
+
+        List<Long> deleted = tombstones.stream().map(TodoTombstone::getTodoId).toList();
+        return new Result(todos, deleted, next.encode(), moreTodos || moreDeleted, reset);
+    }
+
+    // 보존 기간이 지난 tombstone 정리
+    @Scheduled(fixedDelayString = "${todo.sync.purge-interval-ms:3600000}")
+    @Transactional
+    public int purgeTombstones() {
+        return todoTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    public record Result(List<Todo> todos, List<Long> deleted, String token, boolean hasMore, boolean reset) {}
+}
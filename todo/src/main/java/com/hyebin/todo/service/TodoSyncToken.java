@@ -0,0 +1,41 @@
+package com.hyebin.todo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 증분 동기화 토큰 (할 일 / tombstone 각각의 (시각, id) 워터마크)
+// 형식: base64url("할일시각|할일id|삭제시각|삭제id") - 클라이언트에게는 불투명한 문자열
+public record TodoSyncToken(LocalDateTime todoAt, long todoId, LocalDateTime deletedAt, long deletedId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = todoAt + SEPARATOR + todoId + SEPARATOR + deletedAt + SEPARATOR + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰이 없으면 null (처음 동기화), 형식이 잘못되었으면 IllegalArgumentException
+    public static TodoSyncToken decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다.", e);
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다.");
+        }
+
+        try {
+            return new TodoSyncToken(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+// 완료/다시 시작/우선순위 변경 write-behind 큐 (todo.write-behind.enabled=true 일 때)
+// - PATCH 요청은 할 일이 있는지만 확인하고 저널 파일에 한 줄 덧붙인 뒤(fsync) 바로 202, 없는 할 일은 404
+// - DB 반영은 TodoWriteQueueFlusher 가 대기 중인 변경이 있을 때만 TodoService.flushWriteQueue 로 일괄 UPDATE
+// - 같은 할 일에 쌓인 변경은 마지막 상태/우선순위 하나로 합쳐짐 (완료 → 다시 시작 → 완료 는 UPDATE 한 번)
+// - 조회(GET /api/todos, /api/todos/{id})는 아직 반영되지 않은 상태/우선순위를 덮어써서 응답
+// - 같은 할 일을 동기 경로(수정/삭제/If-Match 변경/일괄 처리)로 바꾸면 대기 중인 값은 버림 (나중 쓰기가 이김)
+// - 시작할 때 저널을 다시 읽어 반영되지 않은 변경을 복구하고, 반영이 끝나면 남은 변경만으로 저널을 다시 씀
+// - 대기 상태는 이 인스턴스 메모리 기준 (TodoStatsService 스냅샷과 같이 단일 인스턴스 기준)
+@Component
+public class TodoWriteQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoWriteQueue.class);
+
+    // 저널 한 줄: "순번 id 상태 우선순위" (값이 없으면 -, 둘 다 - 면 대기 항목 삭제)
+    private static final String NONE = "-";
+
+    private final boolean enabled;
+    private final Path journal;
+    private final TodoChangeBus todoChangeBus;
+
+    // 조회(overlay)는 잠금 없이, 변경과 저널 쓰기는 synchronized 로 순서를 맞춤
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    private long seq;
+    // 대기 중인 변경이 바뀔 때마다 올라가는 값 (목록 ETag 용, 잠금 없이 읽음)
+    private volatile long version;
+
+    public TodoWriteQueue(@Value("${todo.write-behind.enabled:false}") boolean enabled,
+                          @Value("${todo.write-behind.journal:data/todo-write-behind.journal}") Path journal,
+                          TodoChangeBus todoChangeBus) {
+        this.enabled = enabled;
+        this.journal = journal;
+        this.todoChangeBus = todoChangeBus;
+        // 꺼져 있어도 남은 저널이 있으면 읽어서 마저 반영
+        recover();
+    }
+
+    // 대기 중인 변경 (seq 는 ETag 에 붙여 대기 중 변경도 조건부 요청에 반영)
+    public record Pending(long seq, Status status, Priority priority) {}
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 완료/다시 시작 (꺼져 있으면 false, 호출한 쪽이 바로 DB 에 씀)
+    // 할 일이 있는지는 호출한 쪽이 먼저 확인 (확인 뒤 삭제된 id 는 반영할 때 0건)
+    public boolean enqueueStatus(Long id, Status status) {
+        if (!enabled) return false;
+        update(id, p -> new Pending(0, status, p != null ? p.priority() : null));
+        todoChangeBus.publish(TodoChangeEvent.statusChanged(id, status));
+        return true;
+    }
+
+    public boolean enqueuePriority(Long id, Priority priority) {
+        if (!enabled) return false;
+        update(id, p -> new Pending(0, p != null ? p.status() : null, priority));
+        todoChangeBus.publish(TodoChangeEvent.todo(TodoChangeEvent.Type.PRIORITY_CHANGED, id, null, priority));
+        return true;
+    }
+
+    // 동기 쓰기가 같은 값을 덮어쓰기 전에 호출 (대기 중인 값이 없으면 저널에 쓰지 않음)
+    public void discardStatus(Long id) {
+        if (pending.containsKey(id)) update(id, p -> p == null ? null : new Pending(0, null, p.priority()));
+    }
+
+    public void discardPriority(Long id) {
+        if (pending.containsKey(id)) update(id, p -> p == null ? null : new Pending(0, p.status(), null));
+    }
+
+    public void discard(Long id) {
+        if (pending.containsKey(id)) update(id, p -> null);
+    }
+
+    public Pending get(Long id) {
+        return id != null ? pending.get(id) : null;
+    }
+
+    // 아직 반영되지 않은 상태/우선순위를 응답에 덮어씀
+    public TodoResponseDto overlay(TodoResponseDto dto) {
+        Pending p = get(dto.getId());
+        if (p != null) {
+            if (p.status() != null) dto.setStatus(p.status());
+            if (p.priority() != null) dto.setPriority(p.priority());
+        }
+        return dto;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    // 덮어쓸 값이 바뀌었는지 (목록 ETag 에 붙임)
+    public long version() {
+        return version;
+    }
+
+    // 반영할 변경 (반영하는 동안 들어온 변경은 다음 차례)
+    public Map<Long, Pending> snapshot() {
+        return Map.copyOf(pending);
+    }
+
+    // DB 반영(커밋) 후 호출: 그 사이 바뀌지 않은 항목만 지우고 저널을 남은 항목으로 다시 씀
+    public synchronized void flushed(Map<Long, Pending> applied) {
+        applied.forEach(pending::remove);
+        compact();
+    }
+
+    // 저널에서 대기 상태를 다시 만듦 (시작 시, 이전 프로세스가 반영하지 못하고 종료된 경우)
+    // 마지막 줄이 쓰다 만 줄이면 버림 (그 요청은 fsync 전이라 응답도 나가지 않았음)
+    public synchronized void recover() {
+        pending.clear();
+        if (Files.exists(journal)) {
+            try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split(" ");
+                    try {
+                        long lineSeq = Long.parseLong(parts[0]);
+                        Long id = Long.valueOf(parts[1]);
+                        Status status = NONE.equals(parts[2]) ? null : Status.valueOf(parts[2]);
+                        Priority priority = NONE.equals(parts[3]) ? null : Priority.valueOf(parts[3]);
+                        if (status == null && priority == null) pending.remove(id);
+                        else pending.put(id, new Pending(lineSeq, status, priority));
+                        seq = Math.max(seq, lineSeq);
+                    } catch (RuntimeException e) {
+                        log.warn("write-behind 저널에서 읽을 수 없는 줄을 건너뜀: {}", line);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!pending.isEmpty()) log.info("write-behind 저널에서 대기 중인 변경 {}건 복구", pending.size());
+        }
+        compact();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) channel.close();
+        channel = null;
+    }
+
+    // 새 값으로 바꾸고 저널에 기록 (fsync 까지 끝나야 반환)
+    private synchronized void update(Long id, UnaryOperator<Pending> change) {
+        Pending before = pending.get(id);
+        Pending after = change.apply(before);
+        if (after != null && after.status() == null && after.priority() == null) after = null;
+        if (before == null && after == null) return;
+        if (after != null) after = new Pending(++seq, after.status(), after.priority());
+        append(after != null ? after.seq() : ++seq, id, after);
+        if (after == null) pending.remove(id);
+        else pending.put(id, after);
+        version = seq;
+    }
+
+    private void append(long lineSeq, Long id, Pending p) {
+        try {
+            if (channel == null) open();
+            channel.write(ByteBuffer.wrap(line(lineSeq, id, p).getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 남은 항목만으로 저널을 새로 쓰고 교체 (임시 파일 → 원자적 이동)
+    private void compact() {
+        try {
+            if (channel != null) channel.close();
+            channel = null;
+            if (pending.isEmpty()) {
+                // 다음 append 때 다시 만듦
+                Files.deleteIfExists(journal);
+                return;
+            }
+            if (journal.getParent() != null) Files.createDirectories(journal.getParent());
+            Path tmp = journal.resolveSibling(journal.getFileName() + ".tmp");
+            StringBuilder lines = new StringBuilder();
+            new HashMap<>(pending).forEach((id, p) -> lines.append(line(p.seq(), id, p)));
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.write(ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+                out.force(true);
+            }
+            Files.move(tmp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void open() throws IOException {
+        if (journal.getParent() != null) Files.createDirectories(journal.getParent());
+        channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static String line(long lineSeq, Long id, Pending p) {
+        return lineSeq + " " + id + " "
+                + (p != null && p.status() != null ? p.status().name() : NONE) + " "
+                + (p != null && p.priority() != null ? p.priority().name() : NONE) + "\n";
+    }
+}
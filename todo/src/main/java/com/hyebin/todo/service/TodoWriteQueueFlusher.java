@@ -0,0 +1,24 @@
+package com.hyebin.todo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// write-behind 큐 주기 반영
+// TodoService 의 트랜잭션/@Timed 프록시 밖에서 큐를 먼저 보고, 대기 중인 변경이 있을 때만 flushWriteQueue 를 호출
+// (큐가 비어 있으면 트랜잭션을 열지 않고 타이머도 남기지 않음)
+@Component
+public class TodoWriteQueueFlusher {
+
+    @Autowired
+    private TodoWriteQueue todoWriteQueue;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Scheduled(fixedDelayString = "${todo.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        if (todoWriteQueue.size() == 0) return;
+        todoService.flushWriteQueue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.hyebin.todo.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 진행 중인 쓰기 트랜잭션의 시작 시각 (증분 동기화 상한용)
+// - 쓰기 트랜잭션이 남기는 updatedAt/deletedAt 은 모두 트랜잭션 시작 뒤의 시각이므로,
+//   "가장 오래된 진행 중 쓰기의 시작 시각" 보다 이른 변경은 이미 커밋됐거나 롤백된 것
+// - 트랜잭션 매니저에 리스너로 붙어 (Spring Boot 가 TransactionExecutionListener 빈을 자동 등록)
+//   서비스/가져오기/write-behind 반영 등 경로와 상관없이 모든 쓰기 트랜잭션을 셈
+// - 이 인스턴스를 거친 쓰기만 반영 (TodoStatsService 스냅샷과 같이 단일 인스턴스 기준)
+@Component
+public class TodoWriteWatermark implements TransactionExecutionListener {
+
+    // 트랜잭션 → 시작 시각 (TransactionExecution 은 begin ~ commit/rollback 동안 같은 객체)
+    private final Map<TransactionExecution, LocalDateTime> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        if (!transaction.isReadOnly()) inFlight.put(transaction, LocalDateTime.now());
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null) inFlight.remove(transaction);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        inFlight.remove(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        inFlight.remove(transaction);
+    }
+
+    // 이 시각보다 이른 변경은 모두 커밋이 끝났음 (진행 중인 쓰기가 없으면 지금)
+    public LocalDateTime committedBefore() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = now;
+        for (LocalDateTime start : inFlight.values()) {
+            if (start.isBefore(oldest)) oldest = start;
+        }
+        return oldest;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,25 @@
+-- 기존 ddl-auto=update 로 만들어진 스키마와 동일한 초기 테이블
+-- (이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+CREATE TABLE tag (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(30) NOT NULL,
+    color      VARCHAR(7),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tag_name UNIQUE (name)
+);
+
+CREATE TABLE todo (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(100) NOT NULL,
+    content    TEXT,
+    due_date   DATETIME(6)  NOT NULL,
+    status     ENUM ('TODO', 'DONE'),
+    priority   ENUM ('HIGH', 'MEDIUM', 'LOW'),
+    tag_id     BIGINT       NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todo_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
+);
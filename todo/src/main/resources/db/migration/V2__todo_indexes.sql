@@ -0,0 +1,17 @@
+-- TodoRepository 조회 조건별 복합 인덱스
+-- 모든 인덱스 끝에 id 를 두어 키셋(정렬키, id) 페이지 조회가 인덱스만으로 정렬되도록 함
+
+-- findByStatus / countByStatus / status 필터 + 마감일 정렬
+CREATE INDEX idx_todo_status_due_date ON todo (status, due_date, id);
+
+-- findByPriority / priority 필터 + 마감일 정렬
+CREATE INDEX idx_todo_priority_due_date ON todo (priority, due_date, id);
+
+-- findByTag_Id / countByTag_IdAndStatus / 태그 + 상태 필터
+CREATE INDEX idx_todo_tag_status ON todo (tag_id, status, due_date, id);
+
+-- findAllByOrderByDueDateAsc / 마감일 정렬, 마감일 범위 조회
+CREATE INDEX idx_todo_due_date ON todo (due_date, id);
+
+-- findAllByOrderByCreatedAtDesc / 생성일 정렬
+CREATE INDEX idx_todo_created_at ON todo (created_at, id);
@@ -0,0 +1,10 @@
+-- todo id 를 INSERT 배치가 가능한 테이블 기반 생성기로 할당 (Todo 의 @TableGenerator, allocationSize = 50)
+-- pooled 최적화기는 저장된 값 V 를 받으면 V - 49 ~ V 범위를 쓰므로 기존 최대 id + 50 으로 시작
+CREATE TABLE id_sequence (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'todo', COALESCE(MAX(id), 0) + 50 FROM todo;
@@ -0,0 +1,14 @@
+-- 증분 동기화 (GET /api/todos/sync)
+
+-- 수정 시각 워터마크 이후 변경분을 (updated_at, id) 키셋으로 조회
+-- 예전 행 중 updated_at 이 비어 있는 행은 동기화 대상에서 빠지지 않도록 채움
+UPDATE todo SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP(6)) WHERE updated_at IS NULL;
+CREATE INDEX idx_todo_updated_at ON todo (updated_at, id);
+
+-- 삭제된 할 일 (tombstone), 보존 기간이 지나면 TodoSyncService 가 정리
+CREATE TABLE todo_tombstone (
+    todo_id    BIGINT      NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (todo_id)
+);
+CREATE INDEX idx_todo_tombstone_deleted_at ON todo_tombstone (deleted_at, todo_id);
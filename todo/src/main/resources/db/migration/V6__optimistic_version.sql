@@ -0,0 +1,3 @@
+-- 낙관적 잠금 (@Version) 과 ETag / If-Match 용 버전 컬럼
+ALTER TABLE todo ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tag ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
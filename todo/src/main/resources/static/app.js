@@ -4,6 +4,10 @@ let currentSort = 'dueDate';
 let currentSearch = '';
 let currentTagId = null;
 let allTodos = [];
+let nextCursor = null;      // 목록 다음 페이지 커서 (없으면 마지막 페이지)
+let listUrl = null;         // 현재 목록 조회 URL (더 보기에 사용)
+let listSort = null;
+let calendarTodos = [];     // 달력에 표시 중인 달의 할일
 let allTags = [];
 let editingTodoId = null;
 let currentCalendarDate = new Date();
@@ -46,6 +50,30 @@ async function apiCall(url, options = {}) {
     }
 }
 
+// 커서 페이지 목록 API: 한 페이지만 조회하고 다음 페이지 커서(X-Next-Cursor, 없으면 null)를 함께 반환
+async function fetchPage(url, cursor = null) {
+    const separator = url.includes('?') ? '&' : '?';
+    const pageUrl = cursor ? `${url}${separator}cursor=${encodeURIComponent(cursor)}` : url;
+    const response = await fetch(API_BASE + pageUrl);
+
+    if (!response.ok) {
+        throw new Error(`HTTP error! status: ${response.status}`);
+    }
+
+    const page = await response.json();
+    return {
+        items: Array.isArray(page) ? page : (page.data || []),
+        cursor: response.headers.get('X-Next-Cursor')
+    };
+}
+
+// 서버 시간대 그대로의 ISO 날짜시간 (dueFrom/dueTo 파라미터용)
+function toLocalIso(date) {
+    const pad = n => String(n).padStart(2, '0');
+    return `${date.getFullYear()}-${pad(date.getMonth() + 1)}-${pad(date.getDate())}T` +
+        `${pad(date.getHours())}:${pad(date.getMinutes())}:${pad(date.getSeconds())}`;
+}
+
 // ===== 태그 관련 함수들 =====
 async function loadTags() {
     try {
@@ -152,6 +180,8 @@ function selectEditTag(tagId) {
 }
 
 // ===== 할일 관련 함수들 =====
+// 첫 페이지만 조회하고 나머지는 '더 보기'로 (전체 목록을 한 번에 내려받지 않음)
+// 마감일순/최신순은 서버에서 정렬, 우선순위순/제목순은 불러온 할일 안에서만 정렬
 async function loadTodos(params = {}) {
     try {
         const queryParams = new URLSearchParams();
@@ -160,13 +190,16 @@ async function loadTodos(params = {}) {
         if (params.priority) queryParams.append('priority', params.priority);
         if (params.search) queryParams.append('search', params.search);
         if (params.tagId) queryParams.append('tagId', params.tagId);
+        if (params.sort === 'dueDate' || params.sort === 'created') queryParams.append('sort', params.sort);
 
-        const url = `/todos${queryParams.toString() ? '?' + queryParams.toString() : ''}`;
-        const todos = await apiCall(url);
-        allTodos = Array.isArray(todos) ? todos : (todos.data || []);
+        listUrl = `/todos${queryParams.toString() ? '?' + queryParams.toString() : ''}`;
+        listSort = params.sort;
+        const page = await fetchPage(listUrl);
+        allTodos = page.items;
+        nextCursor = page.cursor;
 
-        if (params.sort) {
-            allTodos = sortTodos(allTodos, params.sort);
+        if (listSort) {
+            allTodos = sortTodos(allTodos, listSort);
         }
 
         renderTodos();
@@ -176,6 +209,25 @@ async function loadTodos(params = {}) {
     }
 }
 
+// 다음 페이지를 이어 붙임
+async function loadMoreTodos() {
+    if (!nextCursor || !listUrl) return;
+    try {
+        const page = await fetchPage(listUrl, nextCursor);
+        allTodos = allTodos.concat(page.items);
+        nextCursor = page.cursor;
+
+        if (listSort) {
+            allTodos = sortTodos(allTodos, listSort);
+        }
+
+        renderTodos();
+    } catch (error) {
+        console.error('할일 더 보기 실패:', error);
+        showError('할일을 더 불러오는데 실패했습니다.');
+    }
+}
+
 function sortTodos(todos, sortType) {
     if (!todos || !Array.isArray(todos)) return [];
 
@@ -249,6 +301,16 @@ function renderTodos() {
 
     mainContentArea.innerHTML = '';
     mainContentArea.appendChild(todoGrid);
+
+    // 다음 페이지가 있으면 더 보기 버튼
+    if (nextCursor) {
+        const moreButton = document.createElement('button');
+        moreButton.className = 'btn btn-secondary';
+        moreButton.textContent = '더 보기';
+        moreButton.style.marginTop = '20px';
+        moreButton.onclick = loadMoreTodos;
+        mainContentArea.appendChild(moreButton);
+    }
 }
 
 function createTodoCard(todo) {
@@ -326,7 +388,6 @@ async function deleteTodo(todoId) {deleteTodo
         console.log('삭제 API 응답:', response); // 디버깅
 
         if (currentView === 'calendar' || currentView === 'day') {
-            await refreshTodosData();
             showCalendar();
         } else {
             // 다른 뷰인 경우
@@ -340,18 +401,6 @@ async function deleteTodo(todoId) {deleteTodo
     }
 }
 
-async function refreshTodosData() {
-    try {
-        const queryParams = new URLSearchParams();
-        const url = `/todos${queryParams.toString() ? '?' + queryParams.toString() : ''}`;
-        const todos = await apiCall(url);
-        allTodos = Array.isArray(todos) ? todos : (todos.data || []);
-        // renderTodos() 호출하지 않음!
-    } catch (error) {
-        console.error('할일 데이터 새로고침 실패:', error);
-    }
-}
-
 // ===== 뷰 전환 함수들 =====
 function showAllTodos() {
     currentView = 'all';
@@ -533,27 +582,30 @@ function getSafeColor(color) {
     return color;
 }
 
-// 월의 할일들 가져오기
+// 월의 할일들 가져오기 (마감일이 그 달인 할일만 서버에서 조회)
 async function getMonthTodos(year, month) {
     try {
         // 해당 월의 시작과 끝 날짜
         const startDate = new Date(year, month, 1);
         const endDate = new Date(year, month + 1, 0, 23, 59, 59);
 
-        if (!allTodos) {
-            await loadTodos();
-        }
-
-        // 전체 할일 목록이 없으면 로드
-        if (!allTodos || !Array.isArray(allTodos)) {
-            return [];
-        }
-
-        // 해당 월에 속하는 할일들 필터링
-        return allTodos.filter(todo => {
-            const todoDate = new Date(todo.dueDate);
-            return todoDate >= startDate && todoDate <= endDate;
+        const queryParams = new URLSearchParams({
+            dueFrom: toLocalIso(startDate),
+            dueTo: toLocalIso(endDate),
+            sort: 'dueDate',
+            size: '200'
         });
+        const url = `/todos?${queryParams.toString()}`;
+        const todos = [];
+        let cursor = null;
+        do {
+            const page = await fetchPage(url, cursor);
+            todos.push(...page.items);
+            cursor = page.cursor;
+        } while (cursor);
+
+        calendarTodos = todos;
+        return todos;
     } catch (error) {
         console.error('월 할일 로딩 실패:', error);
         return [];
@@ -591,7 +643,7 @@ function showDayTodos(date) {
 
     // 해당 날짜의 할일들 필터링
     const targetDateStr = date.toISOString().split('T')[0];
-    const dayTodos = allTodos.filter(todo => {
+    const dayTodos = calendarTodos.filter(todo => {
         const todoDate = new Date(todo.dueDate);
         const todoDateStr = todoDate.toISOString().split('T')[0];
         return todoDateStr === targetDateStr;
@@ -633,12 +685,16 @@ function showDayTodos(date) {
     mainContentArea.appendChild(todoGrid);
 }
 
-// 할일 상세보기
-function openTodoDetails(todoId) {
-    const todo = allTodos.find(t => t.id === todoId);
+// 할일 상세보기 (불러온 목록에 없으면 단건 조회)
+async function openTodoDetails(todoId) {
+    let todo = allTodos.find(t => t.id === todoId) || calendarTodos.find(t => t.id === todoId);
     if (!todo) {
-        alert('할일을 찾을 수 없습니다.');
-        return;
+        try {
+            todo = await apiCall(`/todos/${todoId}`);
+        } catch (error) {
+            alert('할일을 찾을 수 없습니다.');
+            return;
+        }
     }
 
     currentDetailTodoId = todoId;
@@ -945,8 +1001,7 @@ async function saveTodo() {
 
         closeAddTodoModal();
         if (currentView === 'calendar' || currentView === 'day') {
-            // 캘린더 관련 뷰인 경우 - 데이터 새로고침 후 캘린더 업데이트
-            await refreshTodosData();
+            // 캘린더 관련 뷰인 경우 - 캘린더가 그 달의 할일을 다시 조회
             if (currentView === 'calendar') {
                 updateCalendarDisplay(); // 캘린더만 다시 그리기
             } else {
@@ -1000,16 +1055,19 @@ async function renderTagManagerList() {
 
     tagManagerList.innerHTML = '';
 
+    // 전체 태그의 할일 개수를 한 번에 가져오기
+    const todoCounts = {};
+    try {
+        const response = await apiCall('/tags/stats');
+        (response.data || []).forEach(stats => {
+            todoCounts[stats.tag.id] = stats.totalTodos || 0;
+        });
+    } catch (error) {
+        console.error('태그 통계 로드 실패:', error);
+    }
+
     for (const tag of allTags) {
-        // 태그별 할일 개수 가져오기
-        let todoCount = 0;
-        try {
-            const response = await apiCall(`/tags/${tag.id}/stats`);
-            const stats = response.data || response;
-            todoCount = stats.totalTodos || 0;
-        } catch (error) {
-            console.error('태그 통계 로드 실패:', error);
-        }
+        const todoCount = todoCounts[tag.id] || 0;
 
         const tagItem = document.createElement('div');
         tagItem.className = 'tag-manager-item';
@@ -1172,7 +1230,7 @@ async function deleteTag(tagId) {
 
         if (response.success === false) {
             if (response.errorCode === 'TAG_IN_USE') {
-                alert(`이 태그를 사용하는 할일이 ${response.todoCount}개 있어 삭제할 수 없습니다.\n먼저 해당 할일들의 태그를 변경해주세요.`);
+                alert(`${response.message}\n먼저 해당 할일들의 태그를 변경해주세요.`);
             } else {
                 alert(response.message || '태그 삭제에 실패했습니다.');
             }
@@ -1283,7 +1341,6 @@ async function updateTodo() {
         closeEditTodoModal();
 
         if (currentView === 'calendar' || currentView === 'day') {
-            await loadTodos();
             showCalendar();
         } else {
             loadCurrentView();
@@ -0,0 +1,96 @@
+package com.hyebin.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.dto.TodoRequestDto;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.service.TagCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(properties = {
+        "management.endpoints.web.exposure.include=health,metrics,prometheus",
+        "todo.metrics.sql-statement-budget=1"
+})
+public class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Tag testTag;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        tagCache.invalidate();
+        testTag = tagRepository.save(new Tag("메트릭"));
+    }
+
+    @Test
+    void 프로메테우스_메트릭_노출_테스트() throws Exception {
+        // Given: 등록(태그 조회 + INSERT 로 한도 1 을 넘김) 후 목록 조회
+        TodoRequestDto request = new TodoRequestDto();
+        request.setTitle("메트릭");
+        request.setTagId(testTag.getId());
+        mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/todos")).andExpect(status().isOk());
+
+        // Then: 요청당 SQL 수와 한도 초과(N+1 의심) 기록
+        assertThat(meterRegistry.get("todo.sql.statements").tag("uri", "/api/todos").tag("method", "POST")
+                .summary().totalAmount()).isGreaterThan(1);
+        assertThat(meterRegistry.get("todo.sql.budget.exceeded").tag("method", "POST").counter().count())
+                .isEqualTo(1);
+
+        // 엔드포인트/서비스/리포지토리/Hibernate/Hikari/캐시 메트릭이 스크레이프 응답에 포함
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(scrape).contains(
+                "http_server_requests_seconds_count",
+                "todo_service_seconds_count",
+                "method=\"createTodo\"",
+                "spring_data_repository_invocations_seconds_count",
+                "todo_sql_statements_count",
+                "todo_sql_budget_exceeded_total",
+                "hibernate_statements_total",
+                "hibernate_entities_loads_total",
+                "hikaricp_connections_active",
+                "cache_gets_total{cache=\"tags\"",
+                "todo_changes_subscribers");
+    }
+}
@@ -0,0 +1,188 @@
+package com.hyebin.todo.config;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.service.TagCache;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// primary 와 복제본을 서로 다른 인메모리 H2 로 두고 (복제는 하지 않음) 어느 쪽에서 읽었는지 데이터로 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "todo.datasource.replica.jdbc-url=jdbc:h2:mem:todo_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "todo.datasource.replica.username=sa",
+        "todo.datasource.sticky-window=1m"
+})
+public class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private Tag primaryTag;
+
+    @BeforeEach
+    void setUp() {
+        // 복제본: 같은 스키마에 복제본에만 있는 태그/할 일
+        Flyway.configure().dataSource(replicaDataSource).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("delete from todo");
+        replica.update("delete from tag");
+        replica.update("insert into tag (id, name, color, created_at) values (1000, '복제본태그', '#000000', ?)",
+                LocalDateTime.now());
+        replica.update("insert into todo (id, title, content, due_date, status, priority, tag_id, created_at, updated_at) "
+                + "values (1000, '복제본할일', '내용', ?, 'TODO', 'MEDIUM', 1000, ?, ?)",
+                LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+
+        // primary (쓰기 트랜잭션이라 primary 로 감)
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        primaryTag = tagRepository.save(new Tag("원본태그"));
+        tagCache.invalidate();
+    }
+
+    @Test
+    void 읽기_전용_조회는_복제본에서_읽음() throws Exception {
+        mockMvc.perform(get("/api/tags/stats"))
+                .andExpect(jsonPath("$.data[*].tag.name", contains("복제본태그")));
+        mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", contains("복제본할일")));
+
+        // 모든 요청이 같이 쓰는 태그 캐시는 primary 에서 적재
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].name", contains("원본태그")));
+
+        // 쓰기 요청이 없었으므로 쿠키도 없음
+        assertThat(mockMvc.perform(get("/api/tags")).andReturn().getResponse()
+                .getCookie(ReadYourWritesInterceptor.COOKIE)).isNull();
+    }
+
+    @Test
+    void 쓰기_후에는_primary_에서_읽음() throws Exception {
+        // When: 태그 생성 (primary 에 저장, 응답에 primary 고정 쿠키)
+        Cookie cookie = mockMvc.perform(post("/api/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"새태그\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getCookie(ReadYourWritesInterceptor.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject(
+                "select count(*) from tag where name = '새태그'", Long.class)).isEqualTo(1);
+
+        // Then: 쿠키를 보낸 클라이언트는 primary 에서 읽어 방금 만든 태그가 보임
+        mockMvc.perform(get("/api/tags/stats").cookie(cookie))
+                .andExpect(jsonPath("$.data[*].tag.name", contains("원본태그", "새태그")));
+
+        // 다른 클라이언트는 계속 복제본에서 읽음
+        mockMvc.perform(get("/api/tags/stats"))
+                .andExpect(jsonPath("$.data[*].tag.name", contains("복제본태그")));
+
+        // 기한이 지난 쿠키는 무시
+        mockMvc.perform(get("/api/tags/stats")
+                        .cookie(new Cookie(ReadYourWritesInterceptor.COOKIE, String.valueOf(System.currentTimeMillis() - 1))))
+                .andExpect(jsonPath("$.data[*].tag.name", contains("복제본태그")));
+    }
+
+    @Test
+    void 방금_만든_태그로_바로_할_일_등록() throws Exception {
+        // Given: 태그 생성 (캐시 무효화)
+        String body = mockMvc.perform(post("/api/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"새태그\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        Long tagId = Long.valueOf(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        // When: 쿠키 없는 다른 클라이언트가 먼저 목록을 읽어 캐시를 다시 채움
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(jsonPath("$.data[*].name", contains("원본태그", "새태그")));
+
+        // Then: 그 캐시로 태그를 찾으므로 바로 할 일을 등록할 수 있음
+        mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"새 할 일\", \"dueDate\": \"2030-01-01T00:00:00\", \"tagId\": "
+                                + tagId + "}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tags/" + tagId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(jsonPath("$.data[*].name", contains("원본태그", "새태그")));
+    }
+
+    @Test
+    void 동기화는_쿠키가_없어도_primary_에서_읽음() throws Exception {
+        // Given: primary 에만 있는 할 일 (복제 지연으로 복제본에는 아직 없음)
+        todoRepository.save(new Todo("원본할일", "내용", LocalDateTime.now().plusDays(1), primaryTag));
+
+        // Then: 목록은 복제본, 동기화는 primary
+        mockMvc.perform(get("/api/todos"))
+                .andExpect(jsonPath("$[*].title", contains("복제본할일")));
+        mockMvc.perform(get("/api/todos/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos[*].title", contains("원본할일")));
+    }
+
+    @Test
+    void 복제본이_뒤처져_있으면_목록_ETag_도_복제본_기준() throws Exception {
+        // Given: primary 에 할 일 등록 (쿠키는 버림, 복제본에는 아직 없음)
+        mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"원본할일\", \"dueDate\": \"2030-01-01T00:00:00\", \"tagId\": "
+                                + primaryTag.getId() + "}"))
+                .andExpect(status().isOk());
+
+        // When: 쿠키 없는 클라이언트는 뒤처진 복제본의 목록을 받음
+        String etag = mockMvc.perform(get("/api/todos"))
+                .andExpect(jsonPath("$[*].title", contains("복제본할일")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Then: 복제본이 따라잡으면 같은 ETag 로도 304 가 아니라 새 목록
+        new JdbcTemplate(replicaDataSource).update(
+                "insert into todo (id, title, content, due_date, status, priority, tag_id, created_at, updated_at) "
+                        + "values (1001, '원본할일', null, ?, 'TODO', 'MEDIUM', 1000, ?, ?)",
+                LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.now(), LocalDateTime.now().plusSeconds(1));
+        mockMvc.perform(get("/api/todos").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("복제본할일", "원본할일")));
+    }
+}
@@ -0,0 +1,127 @@
+package com.hyebin.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.service.TagCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReactiveTodoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    private Tag testTag;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        tagCache.invalidate();
+        testTag = tagRepository.save(new Tag("공부"));
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Todo todo = new Todo("할일" + i, "내용" + i, base.plusHours(30 - i), testTag);
+            if (i % 3 == 0) todo.setStatus(Status.DONE);
+            todos.add(todo);
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    @Test
+    void 할일_스트리밍_조회_테스트() throws Exception {
+        // When: NDJSON 으로 요청
+        MvcResult result = mockMvc.perform(get("/api/reactive/todos")
+                        .param("status", "done")
+                        .param("sort", "dueDate")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then: 한 줄에 하나씩, 조건과 정렬이 적용되고 JPA API 와 같은 모양
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(10);
+        TodoResponseDto first = objectMapper.readValue(lines[0], TodoResponseDto.class);
+        assertThat(first.getTitle()).isEqualTo("할일27");
+        assertThat(first.getStatus()).isEqualTo(Status.DONE);
+        assertThat(first.getTagName()).isEqualTo("공부");
+        assertThat(objectMapper.readValue(lines[9], TodoResponseDto.class).getTitle()).isEqualTo("할일0");
+    }
+
+    @Test
+    void 할일_JSON_조회_및_통계_테스트() throws Exception {
+        // JSON 배열 + limit
+        MvcResult list = mockMvc.perform(get("/api/reactive/todos").param("limit", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(list))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)))
+                .andExpect(jsonPath("$[0].title").value("할일0"));
+
+        // 통계는 /api/todos/stats 와 같은 모양 (status 가 null 인 행은 대기로 셈)
+        Todo noStatus = new Todo("상태 없음", "내용", LocalDateTime.now().plusDays(2), testTag);
+        noStatus.setStatus(null);
+        todoRepository.save(noStatus);
+        MvcResult stats = mockMvc.perform(get("/api/reactive/todos/stats"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(stats))
+                .andExpect(jsonPath("$.total").value(31))
+                .andExpect(jsonPath("$.completed").value(10))
+                .andExpect(jsonPath("$.pending").value(21))
+                .andExpect(jsonPath("$.byTag." + testTag.getId()).value(31));
+
+        // 태그
+        MvcResult tags = mockMvc.perform(get("/api/reactive/tags").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(tags))
+                .andExpect(jsonPath("$[0].name").value("공부"));
+
+        // 잘못된 상태 값
+        mockMvc.perform(get("/api/reactive/todos").param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,162 @@
+package com.hyebin.todo.controller;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.service.TagCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Tag studyTag;
+    private Tag emptyTag;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        tagCache.invalidate();
+        studyTag = tagRepository.save(new Tag("공부"));
+        emptyTag = tagRepository.save(new Tag("빈태그"));
+
+        // 공부 태그: 4개 중 1개 완료
+        for (int i = 0; i < 4; i++) {
+            Todo todo = new Todo("할일" + i, "내용", LocalDateTime.now().plusDays(i), studyTag);
+            if (i == 0) todo.setStatus(Status.DONE);
+            todoRepository.save(todo);
+        }
+    }
+
+    @Test
+    void 태그_통계_조회_테스트() throws Exception {
+        mockMvc.perform(get("/api/tags/" + studyTag.getId() + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tag.name").value("공부"))
+                .andExpect(jsonPath("$.data.totalTodos").value(4))
+                .andExpect(jsonPath("$.data.completedTodos").value(1))
+                .andExpect(jsonPath("$.data.pendingTodos").value(3))
+                .andExpect(jsonPath("$.data.completionRate").value(25));
+
+        mockMvc.perform(get("/api/tags/" + emptyTag.getId() + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalTodos").value(0))
+                .andExpect(jsonPath("$.data.completionRate").value(0));
+
+        mockMvc.perform(get("/api/tags/999999/stats"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 전체_태그_통계_조회_테스트() throws Exception {
+        mockMvc.perform(get("/api/tags/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].tag.name").value("공부"))
+                .andExpect(jsonPath("$.data[0].totalTodos").value(4))
+                .andExpect(jsonPath("$.data[1].tag.name").value("빈태그"))
+                .andExpect(jsonPath("$.data[1].totalTodos").value(0));
+    }
+
+    @Test
+    void 사용중인_태그_삭제_테스트() throws Exception {
+        mockMvc.perform(delete("/api/tags/" + studyTag.getId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("TAG_IN_USE"));
+
+        mockMvc.perform(delete("/api/tags/" + emptyTag.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 태그_캐시_테스트() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 첫 조회에서 캐시 적재
+        mockMvc.perform(get("/api/tags")).andExpect(jsonPath("$.data", hasSize(2)));
+
+        // When & Then: 목록/단건/검색은 DB 를 거치지 않음
+        statistics.clear();
+        mockMvc.perform(get("/api/tags")).andExpect(jsonPath("$.data", hasSize(2)));
+        mockMvc.perform(get("/api/tags/" + studyTag.getId())).andExpect(jsonPath("$.data.name").value("공부"));
+        mockMvc.perform(get("/api/tags/search").param("name", "태그"))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name").value("빈태그"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 중복 검사도 캐시로 (INSERT 없이 거부)
+        mockMvc.perform(post("/api/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"공부\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("DUPLICATE_TAG_NAME"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 생성 후에는 캐시가 갱신됨
+        mockMvc.perform(post("/api/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"운동\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tags")).andExpect(jsonPath("$.data", hasSize(3)));
+
+        mockMvc.perform(get("/api/tags/cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hitCount", greaterThan(0)));
+    }
+
+    @Test
+    void 태그_조건부_수정_테스트() throws Exception {
+        String etag = mockMvc.perform(get("/api/tags/" + emptyTag.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/tags/" + emptyTag.getId()).header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"새이름\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+
+        // 예전 버전으로 다시 수정하면 412
+        mockMvc.perform(put("/api/tags/" + emptyTag.getId()).header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"또다른이름\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode").value("VERSION_CONFLICT"));
+        mockMvc.perform(get("/api/tags/" + emptyTag.getId()))
+                .andExpect(jsonPath("$.data.name").value("새이름"));
+    }
+}
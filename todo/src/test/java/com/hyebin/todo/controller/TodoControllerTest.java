@@ -3,10 +3,22 @@ package com.hyebin.todo.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoBatchRequestDto;
+import com.hyebin.todo.dto.TodoBatchResponseDto;
 import com.hyebin.todo.dto.TodoRequestDto;
 import com.hyebin.todo.dto.TodoResponseDto;
 import com.hyebin.todo.repository.TagRepository;
 import com.hyebin.todo.repository.TodoRepository;
+import com.hyebin.todo.repository.TodoTombstoneRepository;
+import com.hyebin.todo.service.TagCache;
+import com.hyebin.todo.service.TodoChangeBus;
+import com.hyebin.todo.service.TodoChangeEvent;
+import com.hyebin.todo.service.TodoStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +26,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,12 +58,29 @@ public class TodoControllerTest {
     @Autowired
     private TodoRepository todoRepository;
 
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TodoStatsService todoStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Tag testTag;
 
     @BeforeEach
     void setUp() {
         todoRepository.deleteAll();
+        todoTombstoneRepository.deleteAll();
         tagRepository.deleteAll();
+        tagCache.invalidate();
         testTag = tagRepository.save(new Tag("공부"));
     }
 
@@ -137,10 +174,794 @@ public class TodoControllerTest {
 
         // 삭제
         mockMvc.perform(delete("/api/todos/" + id))
-                .andExpect(status().isOk());
+                .andExpect(status().isNoContent());
 
         // 확인 (상세조회 시 404 반환)
         mockMvc.perform(get("/api/todos/" + id))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void 할일_커서_페이지_조회_테스트() throws Exception {
+        // Given: 마감일이 서로 다른 할 일 5개 등록
+        for (int i = 0; i < 5; i++) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle("페이지" + i);
+            request.setDueDate(LocalDateTime.now().plusDays(5 - i));
+            request.setTagId(testTag.getId());
+            mockMvc.perform(post("/api/todos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        // 첫 페이지: 마감일이 가장 가까운 2개 + 다음 커서
+        String cursor = mockMvc.perform(get("/api/todos").param("sort", "dueDate").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("페이지4"))
+                .andExpect(jsonPath("$[1].title").value("페이지3"))
+                .andExpect(header().exists(TodoController.NEXT_CURSOR_HEADER))
+                .andReturn().getResponse().getHeader(TodoController.NEXT_CURSOR_HEADER);
+
+        // 두 번째 페이지
+        cursor = mockMvc.perform(get("/api/todos").param("sort", "dueDate").param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("페이지2"))
+                .andExpect(jsonPath("$[1].title").value("페이지1"))
+                .andReturn().getResponse().getHeader(TodoController.NEXT_CURSOR_HEADER);
+
+        // 마지막 페이지: 다음 커서 없음
+        mockMvc.perform(get("/api/todos").param("sort", "dueDate").param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("페이지0"))
+                .andExpect(header().doesNotExist(TodoController.NEXT_CURSOR_HEADER));
+
+        // 다른 정렬의 커서는 거부
+        mockMvc.perform(get("/api/todos").param("sort", "created").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 할일_목록_조회_쿼리수_테스트() throws Exception {
+        // Given: 서로 다른 태그를 가진 할 일 여러 개
+        for (int i = 0; i < 6; i++) {
+            Tag tag = tagRepository.save(new Tag("태그" + i));
+            tagCache.invalidate();
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle("쿼리" + i);
+            request.setStatus(com.hyebin.todo.domain.enums.Status.TODO);
+            request.setPriority(com.hyebin.todo.domain.enums.Priority.HIGH);
+            request.setTagId(tag.getId());
+            mockMvc.perform(post("/api/todos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String[][] listRequests = {
+                {}, {"sort", "dueDate"}, {"sort", "created"}, {"status", "TODO"},
+                {"priority", "HIGH"}, {"search", "쿼리"}, {"tagId", String.valueOf(testTag.getId())}
+        };
+
+        // When & Then: 태그 수와 상관없이 목록 요청당 목록 SELECT 1회 + ETag 용 데이터 버전 1회, 엔티티는 만들지 않음 (DTO 프로젝션)
+        for (String[] params : listRequests) {
+            var request = get("/api/todos");
+            for (int i = 0; i < params.length; i += 2) {
+                request.param(params[i], params[i + 1]);
+            }
+
+            statistics.clear();
+            mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].tagName", everyItem(notNullValue())));
+            assertThat(statistics.getPrepareStatementCount())
+                    .as("statements for %s", String.join("=", params))
+                    .isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        // 목록용으로 content 를 빼고 조회
+        mockMvc.perform(get("/api/todos").param("includeContent", "false"))
+                .andExpect(jsonPath("$", hasSize(6)))
+                .andExpect(jsonPath("$[*].title", everyItem(notNullValue())))
+                .andExpect(jsonPath("$[*].content", everyItem(nullValue())));
+    }
+
+    @Test
+    void 할일_조건_조합_조회_테스트() throws Exception {
+        // Given: 태그/상태/마감일이 섞인 할 일들
+        Tag otherTag = tagRepository.save(new Tag("운동"));
+        tagCache.invalidate();
+        tagCache.invalidate();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        Object[][] rows = {
+                {"공부-완료-3일", testTag, "DONE", 3},
+                {"공부-완료-1일", testTag, "DONE", 1},
+                {"공부-완료-9일", testTag, "DONE", 9},
+                {"공부-대기-2일", testTag, "TODO", 2},
+                {"운동-완료-1일", otherTag, "DONE", 1},
+        };
+        for (Object[] row : rows) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle((String) row[0]);
+            request.setTagId(((Tag) row[1]).getId());
+            request.setStatus(com.hyebin.todo.domain.enums.Status.valueOf((String) row[2]));
+            request.setDueDate(base.plusDays((Integer) row[3]));
+            mockMvc.perform(post("/api/todos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        // When & Then: 상태 + 태그 + 마감일 범위 + 정렬이 모두 적용됨
+        mockMvc.perform(get("/api/todos")
+                        .param("status", "DONE")
+                        .param("tagId", String.valueOf(testTag.getId()))
+                        .param("dueTo", base.plusDays(5).toString())
+                        .param("sort", "dueDate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("공부-완료-1일"))
+                .andExpect(jsonPath("$[1].title").value("공부-완료-3일"));
+
+        // 검색어 + 상태
+        mockMvc.perform(get("/api/todos").param("search", "완료").param("status", "done"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)));
+
+        // 잘못된 상태 값
+        mockMvc.perform(get("/api/todos").param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 할일_통계_조회_테스트() throws Exception {
+        todoStatsService.reconcile();
+
+        // Given: 할 일 3개 등록 → 1개 완료 → 1개 삭제
+        Long[] ids = new Long[3];
+        for (int i = 0; i < 3; i++) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle("통계" + i);
+            request.setPriority(com.hyebin.todo.domain.enums.Priority.HIGH);
+            request.setTagId(testTag.getId());
+            String response = mockMvc.perform(post("/api/todos")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andReturn().getResponse().getContentAsString();
+            ids[i] = objectMapper.readValue(response, TodoResponseDto.class).getId();
+        }
+        mockMvc.perform(patch("/api/todos/" + ids[0] + "/complete")).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/todos/" + ids[1])).andExpect(status().isNoContent());
+
+        // When & Then: 완료는 증감분으로, 삭제는 stale 표시 뒤 스케줄러의 재집계로 스냅샷에 반영됨 (조회는 다시 집계하지 않음)
+        todoStatsService.reconcileIfStale();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/todos/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.completed").value(1))
+                .andExpect(jsonPath("$.pending").value(1))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(2))
+                .andExpect(jsonPath("$.byTag['" + testTag.getId() + "']").value(2));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 우선순위 변경도 stale 표시 뒤 재집계로 반영
+        mockMvc.perform(patch("/api/todos/" + ids[0] + "/priority").param("priority", "LOW"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/todos/" + ids[2] + "/complete")).andExpect(status().isNoContent());
+        todoStatsService.reconcileIfStale();
+        statistics.clear();
+        mockMvc.perform(get("/api/todos/stats"))
+                .andExpect(jsonPath("$.completed").value(2))
+                .andExpect(jsonPath("$.pending").value(0))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(1))
+                .andExpect(jsonPath("$.byPriority.LOW").value(1));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // DB 와 다시 맞춰도 같은 값
+        todoStatsService.reconcile();
+        mockMvc.perform(get("/api/todos/stats"))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.completed").value(2));
+    }
+
+    @Test
+    void 할일_일괄_처리_테스트() throws Exception {
+        // Given: 3개 일괄 생성
+        TodoBatchRequestDto createBatch = new TodoBatchRequestDto();
+        for (int i = 0; i < 3; i++) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle("일괄" + i);
+            request.setTagId(testTag.getId());
+            createBatch.getCreate().add(request);
+        }
+        String response = mockMvc.perform(post("/api/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBatch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", hasSize(3)))
+                .andExpect(jsonPath("$.created[*].id", everyItem(notNullValue())))
+                .andReturn().getResponse().getContentAsString();
+        TodoBatchResponseDto created = objectMapper.readValue(response, TodoBatchResponseDto.class);
+        Long first = created.getCreated().get(0).getId();
+        Long second = created.getCreated().get(1).getId();
+        Long third = created.getCreated().get(2).getId();
+
+        // When: 완료 2개 + 우선순위 변경 1개 + 삭제 1개를 한 번에
+        TodoBatchRequestDto updateBatch = new TodoBatchRequestDto();
+        updateBatch.getComplete().addAll(List.of(first, second));
+        updateBatch.getPriority().put(com.hyebin.todo.domain.enums.Priority.HIGH, List.of(second));
+        updateBatch.getDelete().add(third);
+
+        mockMvc.perform(post("/api/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateBatch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(2))
+                .andExpect(jsonPath("$.priorityChanged").value(1))
+                .andExpect(jsonPath("$.deleted").value(1));
+
+        // Then
+        mockMvc.perform(get("/api/todos/" + second))
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.priority").value("HIGH"));
+        mockMvc.perform(get("/api/todos/" + third))
+                .andExpect(status().isNotFound());
+
+        // 존재하지 않는 태그가 있으면 전체 거부
+        TodoBatchRequestDto invalid = new TodoBatchRequestDto();
+        TodoRequestDto request = new TodoRequestDto();
+        request.setTitle("잘못된 태그");
+        request.setTagId(-1L);
+        invalid.getCreate().add(request);
+        mockMvc.perform(post("/api/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalid)))
+                .andExpect(status().isBadRequest());
+
+        // JSON null 인 항목은 빈 목록, 목록 안의 null 은 400
+        mockMvc.perform(post("/api/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"create\": null, \"complete\": null, \"restart\": null, "
+                                + "\"priority\": {\"HIGH\": null}, \"delete\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", hasSize(0)))
+                .andExpect(jsonPath("$.completed").value(0));
+        mockMvc.perform(post("/api/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"complete\": [null]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"priority\": {\"LOW\": [1, null]}}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 통계는_재집계_중에도_같은_시점의_값() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            todoRepository.save(new Todo("통계" + i, "내용", LocalDateTime.now(), testTag));
+        }
+        todoStatsService.reconcile();
+
+        // When: 재집계와 상태 증감분이 계속 들어오는 동안
+        Thread reconciler = new Thread(() -> {
+            for (int i = 0; i < 50; i++) {
+                todoStatsService.reconcile();
+                todoStatsService.onStatusChanged(Status.TODO, Status.DONE);
+                todoStatsService.onStatusChanged(Status.DONE, Status.TODO);
+            }
+        });
+        reconciler.start();
+
+        // Then: 읽을 때마다 전체 = 완료 + 대기
+        while (reconciler.isAlive()) {
+            TodoStatsService.Stats stats = todoStatsService.getStats();
+            assertThat(stats.total()).isEqualTo(3);
+            assertThat(stats.count(Status.DONE) + stats.count(Status.TODO)).isEqualTo(stats.total());
+        }
+        reconciler.join();
+        assertThat(todoStatsService.getStats().count(Status.TODO)).isEqualTo(3);
+    }
+
+    @Test
+    void 할일_상태_우선순위_변경_테스트() throws Exception {
+        // Given
+        TodoRequestDto request = new TodoRequestDto();
+        request.setTitle("상태변경");
+        request.setTagId(testTag.getId());
+        String response = mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(response, TodoResponseDto.class).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When & Then: 완료 처리는 UPDATE 한 번, 본문 없이 204
+        statistics.clear();
+        mockMvc.perform(patch("/api/todos/" + id + "/complete"))
+                .andExpect(status().isNoContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 이미 완료된 할 일을 다시 완료해도 성공 (0건이라 있는지만 한 번 더 확인)
+        mockMvc.perform(patch("/api/todos/" + id + "/complete"))
+                .andExpect(status().isNoContent());
+
+        // 우선순위 변경도 UPDATE 한 번
+        statistics.clear();
+        mockMvc.perform(patch("/api/todos/" + id + "/priority").param("priority", "low"))
+                .andExpect(status().isNoContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        mockMvc.perform(get("/api/todos/" + id))
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.priority").value("LOW"));
+
+        // 다시 시작
+        mockMvc.perform(patch("/api/todos/" + id + "/restart"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/todos/" + id)).andExpect(jsonPath("$.status").value("TODO"));
+
+        // 상태가 비어 있는(null) 할 일은 대기로 보고 완료 처리
+        Todo legacy = new Todo("상태 없음", "내용", LocalDateTime.now().plusDays(1), testTag);
+        legacy.setStatus(null);
+        legacy = todoRepository.save(legacy);
+        mockMvc.perform(patch("/api/todos/" + legacy.getId() + "/complete"))
+                .andExpect(status().isNoContent());
+        assertThat(todoRepository.findById(legacy.getId()).orElseThrow().getStatus()).isEqualTo(Status.DONE);
+
+        // 없는 할 일
+        mockMvc.perform(patch("/api/todos/999999/complete")).andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/todos/999999/priority").param("priority", "HIGH")).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/todos/999999")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 할일_전문_검색_테스트() throws Exception {
+        // Given: 제목 또는 내용에 검색어가 있는 할 일들
+        String[][] rows = {
+                {"스프링 <공부>", "JPA 복습"},
+                {"운동하기", "저녁에 스프링 강의 보고 운동"},
+                {"장보기", "우유, 계란"},
+        };
+        for (String[] row : rows) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle(row[0]);
+            request.setContent(row[1]);
+            request.setTagId(testTag.getId());
+            mockMvc.perform(post("/api/todos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        // When & Then: 제목 일치가 내용 일치보다 먼저, 하이라이트는 이스케이프 후 <em>
+        mockMvc.perform(get("/api/todos/search").param("q", "스프링").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", hasSize(1)))
+                .andExpect(jsonPath("$.hits[0].todo.title").value("스프링 <공부>"))
+                .andExpect(jsonPath("$.hits[0].titleHighlight").value("<em>스프링</em> &lt;공부&gt;"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/todos/search").param("q", "스프링").param("page", "1").param("size", "1"))
+                .andExpect(jsonPath("$.hits[0].todo.title").value("운동하기"))
+                .andExpect(jsonPath("$.hits[0].contentSnippet").value("저녁에 <em>스프링</em> 강의 보고 운동"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        // 목록 조회의 search 도 내용까지 검색
+        mockMvc.perform(get("/api/todos").param("search", "스프링"))
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        // 소문자로 바꾸면 길이가 달라지는 문자(İ)가 있어도 원문 위치에 하이라이트, 대소문자는 무시
+        TodoRequestDto dotted = new TodoRequestDto();
+        dotted.setTitle("İstanbul 여행");
+        dotted.setContent("Hagia Sophia 방문");
+        dotted.setTagId(testTag.getId());
+        mockMvc.perform(post("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dotted)));
+        mockMvc.perform(get("/api/todos/search").param("q", "여행"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[0].titleHighlight").value("İstanbul <em>여행</em>"));
+        mockMvc.perform(get("/api/todos/search").param("q", "sophia"))
+                .andExpect(jsonPath("$.hits[0].contentSnippet").value("Hagia <em>Sophia</em> 방문"));
+
+        // 빈 검색어
+        mockMvc.perform(get("/api/todos/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 할일_내보내기_테스트() throws Exception {
+        // Given
+        String[][] rows = {{"첫째", "내용, \"따옴표\""}, {"둘째", null}, {"셋째", "여러\n줄"}};
+        for (String[] row : rows) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle(row[0]);
+            request.setContent(row[1]);
+            request.setTagId(testTag.getId());
+            mockMvc.perform(post("/api/todos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        // When & Then: NDJSON 은 한 줄에 하나씩 id 순
+        MvcResult ndjson = mockMvc.perform(get("/api/todos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 기본 비동기 타임아웃 대신 todo.export.timeout (30분)
+        assertThat(ndjson.getRequest().getAsyncContext().getTimeout()).isEqualTo(30 * 60 * 1000L);
+        String body = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines[0], TodoResponseDto.class).getContent()).isEqualTo("내용, \"따옴표\"");
+        assertThat(objectMapper.readValue(lines[2], TodoResponseDto.class).getTagName()).isEqualTo("공부");
+
+        // CSV 는 쉼표/따옴표/개행이 있는 값을 따옴표로 감쌈
+        MvcResult csv = mockMvc.perform(get("/api/todos/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csvBody = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csvBody).startsWith("id,title,content,");
+        assertThat(csvBody).contains(",첫째,\"내용, \"\"따옴표\"\"\",", ",둘째,,", ",셋째,\"여러\n줄\",");
+
+        // 지원하지 않는 형식
+        mockMvc.perform(get("/api/todos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 할일_가져오기_테스트() throws Exception {
+        // Given: 기존 태그(대소문자 다름), 새 태그, 잘못된 행이 섞인 NDJSON
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 600; i++) {
+            ndjson.append(objectMapper.writeValueAsString(Map.of(
+                    "title", "가져온 할 일 " + i,
+                    "tagName", i % 2 == 0 ? "공부" : "Imported",
+                    "status", i % 3 == 0 ? "done" : "TODO",
+                    "dueDate", "2030-01-01T09:00:00"))).append('\n');
+        }
+        ndjson.append("{\"title\": \"\", \"tagName\": \"공부\"}\n");
+        ndjson.append("{\"title\": \"상태 오류\", \"tagName\": \"공부\", \"status\": \"WAIT\"}\n");
+        ndjson.append("not json\n");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When & Then: 유효한 행은 배치로 저장되고 오류 행은 줄 번호와 함께 보고
+        mockMvc.perform(post("/api/todos/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(603))
+                .andExpect(jsonPath("$.imported").value(600))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.createdTags").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(601))
+                .andExpect(jsonPath("$.errors[1].message").value("잘못된 상태 값: WAIT"))
+                .andExpect(jsonPath("$.errors[2].line").value(603));
+        // 행마다 INSERT 를 보내지 않음
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+        assertThat(todoRepository.count()).isEqualTo(600);
+        assertThat(tagRepository.count()).isEqualTo(2);
+        // 가져오기는 증감분을 모르므로 stale 표시만: 조회는 DB 를 거치지 않고, 스케줄러가 다시 집계한 뒤 반영
+        todoStatsService.getStats();
+        statistics.clear();
+        mockMvc.perform(get("/api/todos/stats")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        todoStatsService.reconcileIfStale();
+        mockMvc.perform(get("/api/todos/stats")).andExpect(jsonPath("$.completed").value(200));
+
+        // CSV (따옴표 안의 쉼표/개행)
+        String csv = "title,content,tagName,priority\n"
+                + "CSV 할 일,\"쉼표, \"\"따옴표\"\"\n개행\",공부,high\n";
+        mockMvc.perform(post("/api/todos/import").param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(0));
+        mockMvc.perform(get("/api/todos").param("search", "CSV"))
+                .andExpect(jsonPath("$[0].content").value("쉼표, \"따옴표\"\n개행"))
+                .andExpect(jsonPath("$[0].priority").value("HIGH"));
+
+        // 지원하지 않는 형식
+        mockMvc.perform(post("/api/todos/import").param("format", "xml").content(""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 할일_변경_스트림_테스트() throws Exception {
+        // Given: 완료 상태만 구독
+        MvcResult stream = mockMvc.perform(get("/api/todos/changes").param("status", "done"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When: 생성 → 완료 → 삭제
+        TodoRequestDto request = new TodoRequestDto();
+        request.setTitle("변경 알림");
+        request.setTagId(testTag.getId());
+        String response = mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(response, TodoResponseDto.class).getId();
+        mockMvc.perform(patch("/api/todos/" + id + "/complete"));
+        mockMvc.perform(delete("/api/todos/" + id));
+
+        // Then: 커밋 후 구독 조건에 맞는 이벤트만 SSE 로 전달 (대기 상태로 생성된 이벤트는 걸러짐)
+        String events = "";
+        for (int i = 0; i < 50 && !events.contains("event:DELETED"); i++) {
+            Thread.sleep(100);
+            events = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(events).contains("event:COMPLETED", "\"todoId\":" + id, "event:DELETED");
+        assertThat(events).doesNotContain("event:CREATED");
+
+        // 대기 상태만 구독하면 완료되어 빠진 할 일을 REMOVED 로 받음
+        MvcResult todoStream = mockMvc.perform(get("/api/todos/changes").param("status", "todo"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 다른 태그로 옮긴 할 일은 원래 태그 구독자에게 REMOVED
+        MvcResult tagStream = mockMvc.perform(get("/api/todos/changes").param("tagId", testTag.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        Tag otherTag = tagRepository.save(new Tag("운동"));
+        tagCache.invalidate();
+        response = mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        Long moved = objectMapper.readValue(response, TodoResponseDto.class).getId();
+        mockMvc.perform(patch("/api/todos/" + moved + "/complete"));
+        TodoRequestDto move = new TodoRequestDto();
+        move.setTitle("변경 알림");
+        move.setDueDate(LocalDateTime.now().plusDays(1));
+        move.setStatus(Status.DONE);
+        move.setTagId(otherTag.getId());
+        mockMvc.perform(put("/api/todos/" + moved)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(move)))
+                .andExpect(status().isOk());
+
+        String todoEvents = "";
+        String tagEvents = "";
+        for (int i = 0; i < 50 && !(todoEvents.contains("event:REMOVED") && tagEvents.contains("event:REMOVED")); i++) {
+            Thread.sleep(100);
+            todoEvents = todoStream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            tagEvents = tagStream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(todoEvents).contains("event:CREATED", "event:REMOVED", "\"previousStatus\":\"TODO\"");
+        assertThat(todoEvents).doesNotContain("event:COMPLETED");
+        assertThat(tagEvents).contains("event:COMPLETED", "event:REMOVED", "\"previousTagId\":" + testTag.getId());
+
+        // 잘못된 상태 값
+        mockMvc.perform(get("/api/todos/changes").param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 느린_구독자는_다른_구독자를_막지_않음() throws Exception {
+        // Given: 전송 스레드 2개, 전송이 막힌 구독자 2명 + 정상 구독자 1명
+        TodoChangeBus bus = new TodoChangeBus(2, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TodoChangeEvent> received = new CopyOnWriteArrayList<>();
+        TodoChangeBus.Sink blocked = new TodoChangeBus.Sink() {
+            @Override
+            public void send(long id, TodoChangeEvent event) throws Exception {
+                release.await();
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+        };
+        TodoChangeBus.Sink fast = new TodoChangeBus.Sink() {
+            @Override
+            public void send(long id, TodoChangeEvent event) {
+                received.add(event);
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+        };
+        try {
+            bus.subscribe(null, null, blocked);
+            bus.subscribe(null, null, blocked);
+            bus.publish(TodoChangeEvent.todo(TodoChangeEvent.Type.DELETED, 1L, null, null));
+            Thread.sleep(200);
+
+            // When: 전송 제한 시간이 지난 뒤 heartbeat → 막힌 구독자는 끊김
+            bus.heartbeat();
+            assertThat(bus.subscriberCount()).isZero();
+
+            // Then: 막힌 스레드가 풀리면 새 구독자는 정상 전달 (끊긴 구독자에게는 더 보내지 않음)
+            bus.subscribe(null, null, fast);
+            release.countDown();
+            bus.publish(TodoChangeEvent.todo(TodoChangeEvent.Type.DELETED, 2L, null, null));
+            for (int i = 0; i < 50 && received.isEmpty(); i++) Thread.sleep(20);
+            assertThat(received).extracting(TodoChangeEvent::todoId).containsExactly(2L);
+        } finally {
+            release.countDown();
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void 할일_증분_동기화_테스트() throws Exception {
+        // Given: 3개 생성 후 처음 동기화 (페이지 크기 2 → 두 번에 나눠 받음)
+        List<Long> ids = new java.util.ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TodoRequestDto request = new TodoRequestDto();
+            request.setTitle("동기화" + i);
+            request.setTagId(testTag.getId());
+            String response = mockMvc.perform(post("/api/todos")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andReturn().getResponse().getContentAsString();
+            ids.add(objectMapper.readValue(response, TodoResponseDto.class).getId());
+        }
+        Thread.sleep(5);
+
+        String first = mockMvc.perform(get("/api/todos/sync").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos", hasSize(2)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.reset").value(false))
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/todos/sync").param("size", "2")
+                        .param("since", objectMapper.readTree(first).get("token").asText()))
+                .andExpect(jsonPath("$.todos", hasSize(1)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(second).get("token").asText();
+
+        // When: 하나 완료, 하나 삭제
+        mockMvc.perform(patch("/api/todos/" + ids.get(0) + "/complete"));
+        mockMvc.perform(delete("/api/todos/" + ids.get(1)));
+        Thread.sleep(5);
+
+        // Then: 바뀐 할 일과 삭제된 id 만
+        String changed = mockMvc.perform(get("/api/todos/sync").param("since", token))
+                .andExpect(jsonPath("$.todos", hasSize(1)))
+                .andExpect(jsonPath("$.todos[0].id").value(ids.get(0)))
+                .andExpect(jsonPath("$.todos[0].status").value("DONE"))
+                .andExpect(jsonPath("$.deleted", contains(ids.get(1).intValue())))
+                .andReturn().getResponse().getContentAsString();
+
+        // 변경이 없으면 빈 응답 (인덱스 키셋 조회 두 번)
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/todos/sync").param("since", objectMapper.readTree(changed).get("token").asText()))
+                .andExpect(jsonPath("$.todos", hasSize(0)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 잘못된 토큰
+        mockMvc.perform(get("/api/todos/sync").param("since", "잘못된"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 커밋이_늦은_쓰기도_동기화에서_빠지지_않음() throws Exception {
+        // Given: 처음 동기화로 토큰을 받아 둠
+        Todo todo = todoRepository.save(new Todo("늦은 커밋", "내용", LocalDateTime.now().plusDays(1), testTag));
+        Thread.sleep(5);
+        String token = objectMapper.readTree(mockMvc.perform(get("/api/todos/sync"))
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+
+        // When: 다른 스레드에서 수정을 flush 한 뒤 커밋을 미루는 동안 동기화
+        CountDownLatch flushed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread writer = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            Todo loaded = todoRepository.findById(todo.getId()).orElseThrow();
+            loaded.setTitle("늦게 커밋된 제목");
+            todoRepository.saveAndFlush(loaded);
+            flushed.countDown();
+            try {
+                commit.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        writer.start();
+        flushed.await();
+        Thread.sleep(5);
+        String during = mockMvc.perform(get("/api/todos/sync").param("since", token))
+                .andExpect(jsonPath("$.todos", hasSize(0)))
+                .andReturn().getResponse().getContentAsString();
+        commit.countDown();
+        writer.join();
+
+        // Then: 커밋된 뒤 받은 토큰으로 동기화하면 그 수정이 나옴
+        mockMvc.perform(get("/api/todos/sync").param("since", objectMapper.readTree(during).get("token").asText()))
+                .andExpect(jsonPath("$.todos", hasSize(1)))
+                .andExpect(jsonPath("$.todos[0].title").value("늦게 커밋된 제목"));
+    }
+
+    @Test
+    void 할일_조건부_요청_테스트() throws Exception {
+        // Given
+        TodoRequestDto request = new TodoRequestDto();
+        request.setTitle("버전");
+        request.setDueDate(LocalDateTime.now().plusDays(1));
+        request.setTagId(testTag.getId());
+        String response = mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(response, TodoResponseDto.class).getId();
+
+        // 상세: 바뀌지 않았으면 304
+        String etag = mockMvc.perform(get("/api/todos/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/todos/" + id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 목록/통계: 바뀌지 않았으면 304 (목록은 데이터 버전 조회 한 번, 통계는 조회 없이)
+        String listEtag = mockMvc.perform(get("/api/todos"))
+                .andReturn().getResponse().getHeader("ETag");
+        String statsEtag = mockMvc.perform(get("/api/todos/stats"))
+                .andReturn().getResponse().getHeader("ETag");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/todos").header("If-None-Match", listEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/todos/stats").header("If-None-Match", statsEtag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // When: If-Match 로 수정 → 새 ETag
+        request.setTitle("버전 수정");
+        String updatedEtag = mockMvc.perform(put("/api/todos/" + id).header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(updatedEtag).isNotEqualTo(etag);
+
+        // Then: 예전 ETag 로는 412 (PUT / PATCH 모두)
+        mockMvc.perform(put("/api/todos/" + id).header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/todos/" + id + "/complete").header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/todos/" + id + "/priority").param("priority", "HIGH").header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        String completedEtag = mockMvc.perform(patch("/api/todos/" + id + "/complete").header("If-Match", updatedEtag))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(completedEtag).isNotEqualTo(updatedEtag);
+
+        // 204 의 ETag 는 UPDATE 로 올라간 버전이라 상세 조회의 ETag 와 같음
+        mockMvc.perform(get("/api/todos/" + id).header("If-None-Match", completedEtag))
+                .andExpect(status().isNotModified());
+
+        // 변경 후에는 목록/상세 모두 다시 200
+        mockMvc.perform(get("/api/todos").header("If-None-Match", listEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/todos/" + id).header("If-None-Match", updatedEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+        mockMvc.perform(get("/api/todos/stats").header("If-None-Match", statsEtag))
+                .andExpect(status().isOk());
+
+        // 통계 ETag 는 스냅샷을 바꿔 끼울 때마다 올라가는 버전 (재집계 후에도 이전 값과 겹치지 않음)
+        String completedStatsEtag = mockMvc.perform(get("/api/todos/stats"))
+                .andReturn().getResponse().getHeader("ETag");
+        todoStatsService.reconcile();
+        String reconciledStatsEtag = mockMvc.perform(get("/api/todos/stats"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(reconciledStatsEtag).isNotIn(statsEtag, completedStatsEtag);
+    }
 }
@@ -0,0 +1,304 @@
+package com.hyebin.todo.repository;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.dto.TodoResponseDto;
+import com.hyebin.todo.dto.TodoSearchCondition;
+import com.hyebin.todo.service.TagCache;
+import com.hyebin.todo.service.TodoCursor;
+import com.hyebin.todo.service.TodoReminderService;
+import com.hyebin.todo.service.TodoService;
+import com.hyebin.todo.service.TodoSort;
+import com.hyebin.todo.service.TodoSyncService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록/증분 동기화/마감 알림 경로가 실제로 만드는 SQL 의 실행 계획을 확인해 풀 스캔으로 떨어지면 실패
+// - 손으로 쓴 SQL 대신 서비스를 호출해 Hibernate 가 만든 SQL 과 바인딩 값을 그대로 받아 EXPLAIN
+// - 정렬(id, created_at, due_date)마다 첫 페이지와 커서 다음 페이지(키셋 조건)를 모두 확인
+// - 행이 적으면 MySQL 은 인덱스가 있어도 풀 스캔을 고르므로 충분히 채우고 통계를 갱신한 뒤 확인
+// H2(테스트 기본) 와 로컬 MySQL 모두 지원
+@SpringBootTest
+public class TodoIndexExplainTest {
+
+    private static final int TAGS = 20;
+    private static final int TODOS = 2000;
+    private static final int TOMBSTONES = 500;
+    private static final int PAGE_SIZE = 50;
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                            ? new RecordingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // 실행된 조회 SQL 과 그때 바인딩된 값 (EXPLAIN 에 같은 값으로 다시 바인딩)
+    record Captured(String sql, List<Binding> bindings) {}
+
+    record Binding(Method method, Object[] args) {}
+
+    // capture() 중인 스레드에서 실행된 조회만 기록하는 DataSource
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        private final ThreadLocal<List<Captured>> captured = new ThreadLocal<>();
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        List<Captured> capture(Runnable paths) {
+            captured.set(new ArrayList<>());
+            try {
+                paths.run();
+                return captured.get();
+            } finally {
+                captured.remove();
+            }
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return record(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return record(super.getConnection(username, password));
+        }
+
+        private Connection record(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            return record((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement record(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            bindings.add(new Binding(method, args.clone()));
+                        } else if (name.equals("clearParameters")) {
+                            bindings.clear();
+                        } else if (name.equals("executeQuery") && args == null && captured.get() != null) {
+                            captured.get().add(new Captured(sql, List.copyOf(bindings)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @Autowired
+    private RecordingDataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoSyncService todoSyncService;
+
+    @Autowired
+    private TodoReminderService todoReminderService;
+
+    private boolean mysql;
+    private Long tagId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        }
+        clear();
+
+        // 태그 20개에 할 일 2000개 (상태/우선순위/태그/마감일이 고르게 섞이도록), 지난 마감부터 한 달 뒤까지
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAGS; i++) tags.add(new Tag("태그" + i));
+        tags = tagRepository.saveAll(tags);
+        tagId = tags.get(0).getId();
+        LocalDateTime base = LocalDateTime.now().minusHours(2);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODOS; i++) {
+            Todo todo = new Todo("할 일 " + i, "내용 " + i, base.plusMinutes(i * 20L), tags.get(i % TAGS));
+            todo.setStatus(i % 3 == 0 ? Status.DONE : Status.TODO);
+            todo.setPriority(Priority.values()[i % Priority.values().length]);
+            todos.add(todo);
+        }
+        todoRepository.saveAll(todos);
+
+        // 이미 지워진 할 일의 tombstone
+        List<Object[]> tombstones = new ArrayList<>();
+        for (int i = 0; i < TOMBSTONES; i++) {
+            tombstones.add(new Object[]{1_000_000L + i, Timestamp.valueOf(base.plusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todo_tombstone (todo_id, deleted_at) VALUES (?, ?)", tombstones);
+
+        jdbcTemplate.execute(mysql ? "ANALYZE TABLE tag, todo, todo_tombstone" : "ANALYZE");
+        tagCache.invalidate();
+        todoReminderService.markStale();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+        todoReminderService.markStale();
+    }
+
+    private void clear() {
+        jdbcTemplate.update("DELETE FROM todo_tombstone");
+        todoRepository.deleteAllInBatch();
+        tagRepository.deleteAllInBatch();
+        tagCache.invalidate();
+    }
+
+    @Test
+    void 목록_동기화_마감_조회는_인덱스를_사용한다() throws Exception {
+        List<Captured> queries = dataSource.capture(() -> {
+            // 목록: 조건마다 정렬 3가지 × (첫 페이지, 다음 페이지)
+            for (TodoSearchCondition condition : conditions()) {
+                for (TodoSort sort : TodoSort.values()) {
+                    Window<TodoResponseDto> first = todoService.listTodos(condition, sort, null, PAGE_SIZE, false);
+                    String cursor = TodoCursor.next(sort, first);
+                    if (cursor != null) todoService.listTodos(condition, sort, cursor, PAGE_SIZE, false);
+                }
+            }
+
+            // 증분 동기화: 처음 + 토큰 이후 다음 페이지
+            TodoSyncService.Result first = todoSyncService.sync(null, PAGE_SIZE);
+            todoSyncService.sync(first.token(), PAGE_SIZE);
+
+            // 마감 알림: 적재 전 DB 조회 + 스케줄러의 키셋 적재
+            todoReminderService.due(Duration.ofHours(1), PAGE_SIZE);
+            todoReminderService.tick();
+        });
+
+        // 실제로 캡처한 SQL 에 생성일/마감일/수정 시각/삭제 시각 키셋 조건이 모두 들어 있는지 먼저 확인
+        List<String> sqls = queries.stream().map(q -> q.sql().toLowerCase()).toList();
+        assertThat(sqls).anyMatch(keyset("created_at", "<", "id"));
+        assertThat(sqls).anyMatch(keyset("due_date", ">", "id"));
+        assertThat(sqls).anyMatch(keyset("updated_at", ">", "id"));
+        assertThat(sqls).anyMatch(keyset("deleted_at", ">", "todo_id"));
+
+        for (Captured query : queries) {
+            List<Map<String, Object>> plan = explain(query);
+            if (mysql) {
+                // type=ALL 이면 풀 테이블 스캔
+                assertThat(plan).as(query.sql())
+                        .allSatisfy(row -> assertThat(String.valueOf(row.get("type"))).isNotEqualToIgnoringCase("ALL"));
+            } else {
+                assertThat(plan.toString()).as(query.sql()).doesNotContainIgnoringCase("tableScan");
+            }
+        }
+    }
+
+    // "(col > ? or (col = ? and id > ?))" 꼴 (별칭, 괄호, 공백은 방언마다 다름)
+    private static Predicate<String> keyset(String column, String op, String id) {
+        Pattern pattern = Pattern.compile("\\w+\\." + column + "\\s*" + op + "\\s*\\?\\s+or\\s+\\(?\\s*\\w+\\." + column
+                + "\\s*=\\s*\\?\\s+and\\s+\\w+\\." + id + "\\s*" + op + "\\s*\\?");
+        return sql -> pattern.matcher(sql).find();
+    }
+
+    // 조건 없음, 상태, 우선순위, 태그, 태그 + 상태, 마감일 범위
+    private List<TodoSearchCondition> conditions() {
+        TodoSearchCondition all = new TodoSearchCondition();
+        TodoSearchCondition status = new TodoSearchCondition();
+        status.setStatus(Status.DONE);
+        TodoSearchCondition priority = new TodoSearchCondition();
+        priority.setPriority(Priority.HIGH);
+        TodoSearchCondition tag = new TodoSearchCondition();
+        tag.setTagId(tagId);
+        TodoSearchCondition tagAndStatus = new TodoSearchCondition();
+        tagAndStatus.setTagId(tagId);
+        tagAndStatus.setStatus(Status.TODO);
+        TodoSearchCondition due = new TodoSearchCondition();
+        due.setDueFrom(LocalDateTime.now().plusDays(3));
+        due.setDueTo(LocalDateTime.now().plusDays(4));
+        return List.of(all, status, priority, tag, tagAndStatus, due);
+    }
+
+    // 캡처한 SQL 앞에 EXPLAIN 을 붙이고 같은 값을 같은 setter 로 바인딩
+    private List<Map<String, Object>> explain(Captured query) throws Exception {
+        try (Connection connection = dataSource.getTargetDataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            for (Binding binding : query.bindings()) binding.method().invoke(statement, binding.args());
+            List<Map<String, Object>> rows = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData meta = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        row.put(meta.getColumnLabel(i).toLowerCase(), resultSet.getObject(i));
+                    }
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TodoReminderServiceTest {
+
+    @TestConfiguration
+    static class SinkConfig {
+        @Bean
+        CapturingSink capturingSink() {
+            return new CapturingSink();
+        }
+    }
+
+    static class CapturingSink implements TodoReminderSink {
+        final List<Reminder> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void remind(Reminder reminder) {
+            received.add(reminder);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoReminderService todoReminderService;
+
+    @Autowired
+    private CapturingSink sink;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagCache tagCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Tag tag;
+    private Todo soon;
+    private Todo later;
+    private Todo overdue;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        tagCache.invalidate();
+        tag = tagRepository.save(new Tag("마감"));
+        LocalDateTime now = LocalDateTime.now();
+        soon = todoRepository.save(new Todo("곧 마감", "내용", now.plusMinutes(10), tag));
+        later = todoRepository.save(new Todo("두 시간 뒤", "내용", now.plusHours(2), tag));
+        overdue = todoRepository.save(new Todo("지남", "내용", now.minusMinutes(30), tag));
+        Todo done = new Todo("완료", "내용", now.plusMinutes(5), tag);
+        done.setStatus(Status.DONE);
+        todoRepository.save(done);
+        todoRepository.save(new Todo("사흘 뒤", "내용", now.plusDays(3), tag));
+
+        // DB 를 직접 바꿨으므로 다시 적재
+        todoReminderService.markStale();
+        todoReminderService.tick();
+    }
+
+    @Test
+    void 마감_임박_조회는_마감일_순으로_메모리_인덱스에서() throws Exception {
+        // Then: 지난 마감(lookback 안) → 10분 뒤, 완료된 할 일과 범위 밖은 제외
+        mockMvc.perform(get("/api/todos/due").param("within", "1h"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(overdue.getId()))
+                .andExpect(jsonPath("$[1].id").value(soon.getId()))
+                .andExpect(jsonPath("$[1].tagName").value("마감"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/todos/due").param("within", "3h"))
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[2].id").value(later.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // horizon(24h) 너머는 400
+        mockMvc.perform(get("/api/todos/due").param("within", "P2D"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 알림은_할_일마다_한_번씩() {
+        sink.received.clear();
+        // 이미 보낸 알림은 다시 적재해도 보내지 않음
+        todoReminderService.markStale();
+        todoReminderService.tick();
+        todoReminderService.tick();
+        assertThat(sink.received).isEmpty();
+
+        // 새로 적재된 할 일은 도래한 알림을 보냄
+        todoRepository.save(new Todo("새 할 일", "내용", LocalDateTime.now().plusMinutes(1), tag));
+        todoReminderService.markStale();
+        todoReminderService.tick();
+        todoReminderService.tick();
+        assertThat(sink.received).extracting(TodoReminderSink.Reminder::title).containsExactly("새 할 일");
+        assertThat(sink.received.get(0).type()).isEqualTo(TodoReminderSink.Reminder.Type.UPCOMING);
+    }
+
+    @Test
+    void 처음_적재하면_지난_마감은_OVERDUE_임박은_UPCOMING() {
+        // setUp 의 tick 에서 보낸 알림 중 이번에 만든 할 일 것만
+        List<TodoReminderSink.Reminder> mine = sink.received.stream()
+                .filter(r -> r.todoId().equals(overdue.getId()) || r.todoId().equals(soon.getId())
+                        || r.todoId().equals(later.getId()))
+                .toList();
+        assertThat(mine).extracting(TodoReminderSink.Reminder::todoId, TodoReminderSink.Reminder::type)
+                .containsExactlyInAnyOrder(
+                        tuple(overdue.getId(), TodoReminderSink.Reminder.Type.OVERDUE),
+                        tuple(soon.getId(), TodoReminderSink.Reminder.Type.UPCOMING));
+    }
+
+    @Test
+    void 등록_완료_다시_시작은_다음_tick_에_반영() throws Exception {
+        // Given: API 로 5분 뒤 마감 할 일 등록
+        String due = LocalDateTime.now().plusMinutes(5).withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String body = mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"새로 등록\", \"content\": \"내용\", \"dueDate\": \"" + due
+                                + "\", \"tagId\": " + tag.getId() + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long id = Long.valueOf(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        // When: tick
+        sink.received.clear();
+        todoReminderService.tick();
+
+        // Then: 조회에 나오고 UPCOMING 알림
+        mockMvc.perform(get("/api/todos/due").param("within", "1h"))
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[1].id").value(id));
+        assertThat(sink.received).extracting(TodoReminderSink.Reminder::todoId).containsExactly(id);
+
+        // 완료하면 빠지고
+        mockMvc.perform(patch("/api/todos/" + id + "/complete")).andExpect(status().is2xxSuccessful());
+        todoReminderService.tick();
+        mockMvc.perform(get("/api/todos/due").param("within", "1h"))
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        // 다시 시작하면 다시 들어옴
+        mockMvc.perform(patch("/api/todos/" + id + "/restart")).andExpect(status().is2xxSuccessful());
+        todoReminderService.tick();
+        mockMvc.perform(get("/api/todos/due").param("within", "1h"))
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+}
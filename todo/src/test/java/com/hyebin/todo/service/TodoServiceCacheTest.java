@@ -0,0 +1,85 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시를 켠 상태에서 수정/삭제 후 오래된 값이 보이지 않는지 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+public class TodoServiceCacheTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Tag tag;
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        tag = tagRepository.save(new Tag("캐시"));
+        id = todoService.createTodo(new Todo("캐시", "내용", LocalDateTime.now(), tag)).getId();
+    }
+
+    @Test
+    void 상세_조회는_2차_캐시에서() {
+        todoService.getTodoById(id);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        todoService.getTodoById(id);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void 상태_우선순위_변경_후_캐시_무효화() {
+        todoService.getTodoById(id);
+
+        todoService.completeTodo(id);
+        assertThat(todoService.getTodoById(id).getStatus()).isEqualTo(Status.DONE);
+        assertThat(todoRepository.countByStatus(Status.DONE)).isEqualTo(1);
+
+        todoService.changePriority(id, Priority.HIGH);
+        assertThat(todoService.getTodoById(id).getPriority()).isEqualTo(Priority.HIGH);
+
+        Todo update = new Todo("수정됨", "내용", LocalDateTime.now(), tag);
+        todoService.updateTodo(id, update);
+        assertThat(todoService.getTodoById(id).getTitle()).isEqualTo("수정됨");
+        assertThat(todoRepository.countByStatus(Status.DONE)).isZero();
+    }
+
+    @Test
+    void 삭제_후_캐시_무효화() {
+        todoService.getTodoById(id);
+        assertThat(todoRepository.countByStatus(Status.TODO)).isEqualTo(1);
+
+        todoService.deleteTodo(id);
+        assertThat(todoService.getTodoById(id)).isNull();
+        assertThat(todoRepository.countByStatus(Status.TODO)).isZero();
+    }
+}
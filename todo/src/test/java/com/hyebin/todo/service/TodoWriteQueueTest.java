@@ -0,0 +1,181 @@
+package com.hyebin.todo.service;
+
+import com.hyebin.todo.domain.entity.Tag;
+import com.hyebin.todo.domain.entity.Todo;
+import com.hyebin.todo.domain.enums.Priority;
+import com.hyebin.todo.domain.enums.Status;
+import com.hyebin.todo.repository.TagRepository;
+import com.hyebin.todo.repository.TodoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "todo.write-behind.enabled=true",
+        "todo.write-behind.journal=build/tmp/write-behind-test/todo.journal",
+        // 테스트에서 직접 반영
+        "todo.write-behind.flush-interval-ms=3600000"
+})
+public class TodoWriteQueueTest {
+
+    private static final Path JOURNAL = Path.of("build/tmp/write-behind-test/todo.journal");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoWriteQueue todoWriteQueue;
+
+    @Autowired
+    private TodoWriteQueueFlusher todoWriteQueueFlusher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TodoChangeBus todoChangeBus;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        todoWriteQueue.flushed(todoWriteQueue.snapshot());
+        todoRepository.deleteAll();
+        tagRepository.deleteAll();
+        Tag tag = tagRepository.save(new Tag("큐"));
+        todo = todoRepository.save(new Todo("토글", "내용", LocalDateTime.now().plusDays(1), tag));
+    }
+
+    @Test
+    void 연속_토글은_하나로_합쳐져_한번에_반영() throws Exception {
+        // When: 완료 → 다시 시작 → 완료, 우선순위 변경 (모두 바로 202)
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/complete")).andExpect(status().isAccepted());
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/restart")).andExpect(status().isAccepted());
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/complete")).andExpect(status().isAccepted());
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/priority").param("priority", "HIGH"))
+                .andExpect(status().isAccepted());
+
+        // Then: DB 는 아직 그대로, 조회는 대기 중인 값으로 응답
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getStatus()).isEqualTo(Status.TODO);
+        assertThat(todoWriteQueue.size()).isEqualTo(1);
+        mockMvc.perform(get("/api/todos/" + todo.getId()))
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.priority").value("HIGH"))
+                .andExpect(header().string("ETag", containsString("-")));
+        mockMvc.perform(get("/api/todos"))
+                .andExpect(jsonPath("$[0].status").value("DONE"));
+
+        // 반영: 상태 UPDATE 1 + 우선순위 UPDATE 1, 큐와 저널은 비워짐
+        assertThat(todoService.flushWriteQueue()).isEqualTo(2);
+        Todo saved = todoRepository.findById(todo.getId()).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(Status.DONE);
+        assertThat(saved.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(saved.getVersion()).isEqualTo(todo.getVersion() + 2);
+        assertThat(todoWriteQueue.size()).isZero();
+        assertThat(Files.exists(JOURNAL)).isFalse();
+    }
+
+    @Test
+    void 없는_할일은_404_빈_큐는_트랜잭션_없이_건너뜀() throws Exception {
+        // 없는 할 일은 큐에 넣지 않음
+        mockMvc.perform(patch("/api/todos/999999/complete")).andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/todos/999999/priority").param("priority", "HIGH")).andExpect(status().isNotFound());
+        assertThat(todoWriteQueue.size()).isZero();
+
+        // 큐가 비어 있으면 flushWriteQueue 를 부르지 않음 (타이머 기록 없음)
+        double before = flushCount();
+        todoWriteQueueFlusher.flush();
+        assertThat(flushCount()).isEqualTo(before);
+
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/complete")).andExpect(status().isAccepted());
+        todoWriteQueueFlusher.flush();
+        assertThat(flushCount()).isEqualTo(before + 1);
+        assertThat(todoWriteQueue.size()).isZero();
+    }
+
+    private double flushCount() {
+        Timer timer = meterRegistry.find("todo.service").tag("method", "flushWriteQueue").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    void 동기_쓰기가_나중이면_대기_중인_값은_버려짐() throws Exception {
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/complete")).andExpect(status().isAccepted());
+
+        // If-Match 가 있으면 동기 경로 (대기 중인 상태는 버리고 바로 UPDATE)
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/restart")
+                        .header("If-Match", "\"" + todo.getVersion() + ".0\""))
+                .andExpect(status().isNoContent());
+        assertThat(todoWriteQueue.get(todo.getId())).isNull();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getStatus()).isEqualTo(Status.TODO);
+
+        // 수정(PUT)도 대기 중인 값을 버림
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/priority").param("priority", "LOW"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(put("/api/todos/" + todo.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"수정\", \"dueDate\": \"2030-01-01T00:00:00\", \"tagId\": "
+                                + todo.getTag().getId() + "}"))
+                .andExpect(status().isOk());
+        assertThat(todoWriteQueue.size()).isZero();
+        assertThat(todoService.flushWriteQueue()).isZero();
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getPriority()).isEqualTo(Priority.MEDIUM);
+    }
+
+    @Test
+    void 재시작하면_저널을_다시_읽어_반영() throws Exception {
+        Todo other = todoRepository.save(new Todo("다른", "내용", LocalDateTime.now(), todo.getTag()));
+        mockMvc.perform(patch("/api/todos/" + todo.getId() + "/complete")).andExpect(status().isAccepted());
+        mockMvc.perform(patch("/api/todos/" + other.getId() + "/priority").param("priority", "LOW"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(patch("/api/todos/" + other.getId() + "/priority").param("priority", "HIGH"))
+                .andExpect(status().isAccepted());
+
+        // 반영 전에 프로세스가 죽음: 저널만 남고, 마지막 줄은 쓰다 만 상태
+        Files.writeString(JOURNAL, "99 " + todo.getId() + " DO", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // 새 프로세스가 같은 저널로 시작
+        TodoWriteQueue restarted = new TodoWriteQueue(true, JOURNAL, todoChangeBus);
+        assertThat(restarted.snapshot()).isEqualTo(todoWriteQueue.snapshot());
+        restarted.close();
+
+        // 실행 중인 큐도 메모리를 버리고 저널에서 복구한 뒤 반영
+        todoWriteQueue.recover();
+        assertThat(todoWriteQueue.get(todo.getId()).status()).isEqualTo(Status.DONE);
+        assertThat(todoWriteQueue.get(other.getId()).priority()).isEqualTo(Priority.HIGH);
+        assertThat(todoService.flushWriteQueue()).isEqualTo(2);
+
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getStatus()).isEqualTo(Status.DONE);
+        assertThat(todoRepository.findById(other.getId()).orElseThrow().getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(new TodoWriteQueue(true, JOURNAL, todoChangeBus).size()).isZero();
+    }
+}